@@ -6,7 +6,7 @@ plugins {
 private val versionMajor = 4
 private val versionMinor = 7
 private val versionPatch = 1
-private val versionAdapterPatch = 1
+private val versionAdapterPatch = 2
 
 var libraryVersionName by extra("${versionMajor}.${versionMinor}.${versionPatch}.${versionAdapterPatch}")
 var libraryVersionCode by extra((versionMajor * 1000000) + (versionMinor * 10000) + (versionPatch * 100) + versionAdapterPatch)
@@ -7,6 +7,7 @@ import android.os.Bundle;
 import com.adjust.sdk.Adjust;
 import com.adjust.sdk.AdjustConfig;
 import com.adjust.sdk.LogLevel;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdRevenuePipeline;
 import com.applovin.sdk.AppLovinMediationProvider;
 import com.applovin.sdk.AppLovinSdk;
 
@@ -16,22 +17,85 @@ import androidx.annotation.Nullable;
 public class GlobalApplication
         extends Application
 {
+    // Whether to initialize the ad SDKs only once the first screen has been drawn, so they do not delay it
+    private static final boolean DEFER_AD_SDK_INIT_UNTIL_FIRST_FRAME = true;
+
     @Override
     public void onCreate()
     {
         super.onCreate();
 
-        // Initialize the AppLovin SDK
-        AppLovinSdk.getInstance( this ).setMediationProvider( AppLovinMediationProvider.MAX );
-        AppLovinSdk.getInstance( this ).initializeSdk( config -> {
-            // AppLovin SDK is initialized, start loading ads now or later if ad gate is reached
+        final StartupPipeline startupPipeline = new StartupPipeline()
+                .addStep( "AppLovin SDK", onComplete -> {
+                    // Initialize the AppLovin SDK
+                    AppLovinSdk.getInstance( this ).setMediationProvider( AppLovinMediationProvider.MAX );
+                    AppLovinSdk.getInstance( this ).initializeSdk( config -> {
+                        // AppLovin SDK is initialized, start loading ads now or later if ad gate is reached
+                        onComplete.run();
+                    } );
+                } )
+                .addStep( "Adjust SDK", onComplete -> {
+                    // Initialize Adjust SDK
+                    AdjustConfig adjustConfig = new AdjustConfig( getApplicationContext(), "{YourAppToken}", AdjustConfig.ENVIRONMENT_SANDBOX );
+                    Adjust.onCreate( adjustConfig );
 
-            // Initialize Adjust SDK
-            AdjustConfig adjustConfig = new AdjustConfig( getApplicationContext(), "{YourAppToken}", AdjustConfig.ENVIRONMENT_SANDBOX );
-            Adjust.onCreate( adjustConfig );
+                    registerActivityLifecycleCallbacks( new AdjustLifecycleCallbacks() );
+                    onComplete.run();
+                } )
+                .addStep( "Ad revenue pipeline", onComplete -> {
+                    AdRevenuePipeline.getInstance( this ).start();
+                    onComplete.run();
+                } );
 
-            registerActivityLifecycleCallbacks( new AdjustLifecycleCallbacks() );
-        } );
+        if ( DEFER_AD_SDK_INIT_UNTIL_FIRST_FRAME )
+        {
+            registerActivityLifecycleCallbacks( new FirstFrameCallbacks( startupPipeline ) );
+        }
+        else
+        {
+            startupPipeline.start();
+        }
+    }
+
+    /**
+     * Starts the startup pipeline once the first activity has drawn its first frame.
+     */
+    private final class FirstFrameCallbacks
+            implements ActivityLifecycleCallbacks
+    {
+        private final StartupPipeline startupPipeline;
+
+        private FirstFrameCallbacks(final StartupPipeline startupPipeline)
+        {
+            this.startupPipeline = startupPipeline;
+        }
+
+        @Override
+        public void onActivityCreated(@NonNull final Activity activity, @Nullable final Bundle bundle)
+        {
+            unregisterActivityLifecycleCallbacks( this );
+
+            // Runnables posted to a view that is not attached yet run right after its first traversal, i.e. once the first frame has been drawn
+            activity.getWindow().getDecorView().post( startupPipeline::start );
+        }
+
+        @Override
+        public void onActivityStarted(@NonNull final Activity activity) {}
+
+        @Override
+        public void onActivityResumed(@NonNull final Activity activity) {}
+
+        @Override
+        public void onActivityPaused(@NonNull final Activity activity) {}
+
+        @Override
+        public void onActivityStopped(@NonNull final Activity activity) {}
+
+        @Override
+        public void onActivitySaveInstanceState(@NonNull final Activity activity, @NonNull final Bundle bundle) {}
+
+        @Override
+        public void onActivityDestroyed(@NonNull final Activity activity) {}
     }
 
     private static final class AdjustLifecycleCallbacks
@@ -18,6 +18,7 @@ import com.applovin.enterprise.apps.demoapp.ads.applovin.rewarded.RewardedVideos
 import com.applovin.enterprise.apps.demoapp.ads.max.InterstitialAdActivity;
 import com.applovin.enterprise.apps.demoapp.ads.max.RewardedAdActivity;
 import com.applovin.enterprise.apps.demoapp.ads.max.banner.BannerAdActivity;
+import com.applovin.enterprise.apps.demoapp.ads.max.loadtest.LoadTestActivity;
 import com.applovin.enterprise.apps.demoapp.ads.max.mrecs.MrecAdActivity;
 import com.applovin.enterprise.apps.demoapp.ads.max.nativead.NativeAdActivity;
 import com.applovin.enterprise.apps.demoapp.data.main.DemoMenuItem;
@@ -139,6 +140,7 @@ public class MainActivity
         items.add( new DemoMenuItem( "Banners", new Intent( this, BannerAdActivity.class ) ) );
         items.add( new DemoMenuItem( "MRECs", new Intent( this, MrecAdActivity.class ) ) );
         items.add( new DemoMenuItem( "Native Ads", new Intent( this, NativeAdActivity.class ) ) );
+        items.add( new DemoMenuItem( "Load Test", new Intent( this, LoadTestActivity.class ) ) );
         items.add( new DemoMenuItem( "Launch Mediation Debugger", () -> AppLovinSdk.getInstance( getApplicationContext() ).showMediationDebugger() ) );
         items.add( new SectionHeader( "SUPPORT" ) );
         items.add( new DemoMenuItem( "Visit our Support Site", new Intent( Intent.ACTION_VIEW, Uri.parse( "https://support.applovin.com/support/home" ) ) ) );
@@ -0,0 +1,94 @@
+package com.applovin.enterprise.apps.demoapp;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.core.os.TraceCompat;
+
+/**
+ * Runs the app's startup steps in order and records how long each one takes, so the cost of every SDK initialized at startup can be measured.
+ * <p>
+ * A step may complete asynchronously (e.g. when it waits on an SDK initialization callback) - the next step only starts once it calls its completion
+ * callback. The main thread work of every step is also wrapped in a trace section of the same name, so it shows up in system traces. Must only be
+ * used from the main thread.
+ */
+public class StartupPipeline
+{
+    private static final String TAG = "StartupPipeline";
+
+    public interface Step
+    {
+        void run(Runnable onComplete);
+    }
+
+    private final List<String> stepNames = new ArrayList<>();
+    private final List<Step>   steps     = new ArrayList<>();
+    private final long         createdAtMillis;
+
+    private int  currentStepIndex = -1;
+    private long startedAtMillis;
+    private long currentStepStartedAtMillis;
+
+    public StartupPipeline()
+    {
+        createdAtMillis = SystemClock.uptimeMillis();
+    }
+
+    /**
+     * Add a step to run after all previously added steps have completed.
+     */
+    public StartupPipeline addStep(final String name, final Step step)
+    {
+        stepNames.add( name );
+        steps.add( step );
+        return this;
+    }
+
+    /**
+     * Start running the steps. Does nothing if the pipeline has already been started.
+     */
+    public void start()
+    {
+        if ( currentStepIndex >= 0 ) return;
+
+        startedAtMillis = SystemClock.uptimeMillis();
+        Log.d( TAG, "Started " + ( startedAtMillis - createdAtMillis ) + "ms after Application.onCreate()" );
+
+        runStep( 0 );
+    }
+
+    private void runStep(final int index)
+    {
+        currentStepIndex = index;
+
+        if ( index >= steps.size() )
+        {
+            Log.d( TAG, "Completed all steps in " + ( SystemClock.uptimeMillis() - startedAtMillis ) + "ms" );
+            return;
+        }
+
+        currentStepStartedAtMillis = SystemClock.uptimeMillis();
+
+        TraceCompat.beginSection( stepNames.get( index ) );
+        try
+        {
+            steps.get( index ).run( () -> completeStep( index ) );
+        }
+        finally
+        {
+            TraceCompat.endSection();
+        }
+    }
+
+    private void completeStep(final int index)
+    {
+        // Ignore steps that report completion more than once
+        if ( index != currentStepIndex ) return;
+
+        Log.d( TAG, stepNames.get( index ) + " took " + ( SystemClock.uptimeMillis() - currentStepStartedAtMillis ) + "ms" );
+        runStep( index + 1 );
+    }
+}
@@ -0,0 +1,160 @@
+package com.applovin.enterprise.apps.demoapp.ads.applovin.eventtracking;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.applovin.sdk.AppLovinEventService;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks events with {@link AppLovinEventService} in batches from a background thread, instead of one call on the main thread per event.
+ * <p>
+ * The first time an event is tracked, a batch is scheduled {@link #COALESCING_WINDOW_MILLIS} later. Tracking the same event again before its batch is
+ * sent (e.g. a double tap) is coalesced into the pending one. {@link #track(Event)} is safe to call from any thread.
+ */
+class EventTrackingQueue
+{
+    private static final long COALESCING_WINDOW_MILLIS = 500;
+
+    /**
+     * An event to track. Build it, including its parameters, once and track the same instance every time - events are coalesced by identity.
+     */
+    static final class Event
+    {
+        private final String              eventType;
+        private final Map<String, String> parameters;
+
+        Event(final String eventType, final Map<String, String> parameters)
+        {
+            this.eventType = eventType;
+            this.parameters = parameters;
+        }
+    }
+
+    interface Listener
+    {
+        /**
+         * Called on the main thread after a batch of events has been tracked.
+         */
+        void onBatchTracked();
+    }
+
+    private final AppLovinEventService         eventService;
+    private final ScheduledExecutorService     executor         = Executors.newSingleThreadScheduledExecutor();
+    private final Handler                      mainHandler      = new Handler( Looper.getMainLooper() );
+    private final Set<Event>                   pendingEventSet  = Collections.newSetFromMap( new ConcurrentHashMap<Event, Boolean>() );
+    private final ConcurrentLinkedQueue<Event> pendingEvents    = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean                isFlushScheduled = new AtomicBoolean();
+    private final AtomicLong                   enqueuedCount    = new AtomicLong();
+    private final AtomicLong                   coalescedCount   = new AtomicLong();
+    private final AtomicLong                   trackedCount     = new AtomicLong();
+    private final AtomicLong                   batchCount       = new AtomicLong();
+    private final long                         createdAtMillis  = SystemClock.elapsedRealtime();
+    private final Runnable                     flushTask        = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            flush();
+        }
+    };
+
+    private volatile Listener listener;
+
+    EventTrackingQueue(final AppLovinEventService eventService)
+    {
+        this.eventService = eventService;
+    }
+
+    void setListener(final Listener listener)
+    {
+        this.listener = listener;
+    }
+
+    void track(final Event event)
+    {
+        enqueuedCount.incrementAndGet();
+
+        if ( !pendingEventSet.add( event ) )
+        {
+            coalescedCount.incrementAndGet();
+            return;
+        }
+
+        pendingEvents.offer( event );
+
+        if ( isFlushScheduled.compareAndSet( false, true ) )
+        {
+            executor.schedule( flushTask, COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS );
+        }
+    }
+
+    /**
+     * Stop the queue. Events that are already pending are still tracked, but no new events may be tracked.
+     */
+    void shutdown()
+    {
+        listener = null;
+        executor.shutdown();
+    }
+
+    /**
+     * @return The number of events enqueued, coalesced and tracked so far, and the tracking throughput.
+     */
+    String getStats()
+    {
+        long elapsedMillis = Math.max( 1, SystemClock.elapsedRealtime() - createdAtMillis );
+        return String.format( Locale.US, "%d tracked in %d batches, %d of %d coalesced, %.2f/s",
+                              trackedCount.get(),
+                              batchCount.get(),
+                              coalescedCount.get(),
+                              enqueuedCount.get(),
+                              trackedCount.get() * 1000f / elapsedMillis );
+    }
+
+    private void flush()
+    {
+        isFlushScheduled.set( false );
+
+        int batchSize = 0;
+        Event event;
+        while ( ( event = pendingEvents.poll() ) != null )
+        {
+            // Allow the event to be queued again as soon as it has been taken out of the batch
+            pendingEventSet.remove( event );
+
+            eventService.trackEvent( event.eventType, event.parameters );
+            batchSize++;
+        }
+
+        if ( batchSize == 0 ) return;
+
+        trackedCount.addAndGet( batchSize );
+        batchCount.incrementAndGet();
+
+        mainHandler.post( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                Listener listener = EventTrackingQueue.this.listener;
+                if ( listener != null )
+                {
+                    listener.onBatchTracked();
+                }
+            }
+        } );
+    }
+}
@@ -50,7 +50,7 @@ public class InterstitialBasicIntegrationActivity
     @Override
     public void adReceived(AppLovinAd appLovinAd)
     {
-        logCallback();
+        logCallback( "adReceived" );
 
         showButton.setEnabled( true );
     }
@@ -59,7 +59,7 @@ public class InterstitialBasicIntegrationActivity
     public void failedToReceiveAd(int errorCode)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback();
+        logCallback( "failedToReceiveAd" );
 
         showButton.setEnabled( true );
     }
@@ -69,27 +69,27 @@ public class InterstitialBasicIntegrationActivity
     //region Ad Display Listener
 
     @Override
-    public void adDisplayed(AppLovinAd appLovinAd) { logCallback(); }
+    public void adDisplayed(AppLovinAd appLovinAd) { logCallback( "adDisplayed" ); }
 
     @Override
-    public void adHidden(AppLovinAd appLovinAd) { logCallback(); }
+    public void adHidden(AppLovinAd appLovinAd) { logCallback( "adHidden" ); }
 
     //endregion
 
     //region Ad Click Listener
 
     @Override
-    public void adClicked(AppLovinAd appLovinAd) { logCallback(); }
+    public void adClicked(AppLovinAd appLovinAd) { logCallback( "adClicked" ); }
 
     //endregion
 
     //region Ad Video Playback Listener
 
     @Override
-    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback(); }
+    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback( "videoPlaybackBegan" ); }
 
     @Override
-    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback(); }
+    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback( "videoPlaybackEnded" ); }
 
     //endregion
 }
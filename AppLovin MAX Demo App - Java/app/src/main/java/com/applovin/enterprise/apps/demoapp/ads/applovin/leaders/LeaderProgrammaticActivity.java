@@ -63,14 +63,14 @@ public class LeaderProgrammaticActivity
     @Override
     public void adReceived(final AppLovinAd ad)
     {
-        logCallback();
+        logCallback( "adReceived" );
     }
 
     @Override
     public void failedToReceiveAd(final int errorCode)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback();
+        logCallback( "failedToReceiveAd" );
     }
 
     //endregion
@@ -78,33 +78,33 @@ public class LeaderProgrammaticActivity
     //region Ad Display Listener
 
     @Override
-    public void adDisplayed(final AppLovinAd ad) { logCallback(); }
+    public void adDisplayed(final AppLovinAd ad) { logCallback( "adDisplayed" ); }
 
     @Override
-    public void adHidden(final AppLovinAd ad) { logCallback(); }
+    public void adHidden(final AppLovinAd ad) { logCallback( "adHidden" ); }
 
     //endregion
 
     //region AdView Event Listener
 
     @Override
-    public void adOpenedFullscreen(final AppLovinAd ad, final AppLovinAdView adView) { logCallback(); }
+    public void adOpenedFullscreen(final AppLovinAd ad, final AppLovinAdView adView) { logCallback( "adOpenedFullscreen" ); }
 
     @Override
-    public void adClosedFullscreen(final AppLovinAd ad, final AppLovinAdView adView) { logCallback(); }
+    public void adClosedFullscreen(final AppLovinAd ad, final AppLovinAdView adView) { logCallback( "adClosedFullscreen" ); }
 
     @Override
-    public void adLeftApplication(final AppLovinAd ad, final AppLovinAdView adView) { logCallback(); }
+    public void adLeftApplication(final AppLovinAd ad, final AppLovinAdView adView) { logCallback( "adLeftApplication" ); }
 
     @Override
-    public void adFailedToDisplay(final AppLovinAd ad, final AppLovinAdView adView, final AppLovinAdViewDisplayErrorCode code) { logCallback(); }
+    public void adFailedToDisplay(final AppLovinAd ad, final AppLovinAdView adView, final AppLovinAdViewDisplayErrorCode code) { logCallback( "adFailedToDisplay" ); }
 
     //endregion
 
     //region Ad Click Listener
 
     @Override
-    public void adClicked(final AppLovinAd ad) { logCallback(); }
+    public void adClicked(final AppLovinAd ad) { logCallback( "adClicked" ); }
 
     //endregion
 }
@@ -55,7 +55,7 @@ public class RewardedVideosActivity
     @Override
     public void adReceived(AppLovinAd appLovinAd)
     {
-        logCallback();
+        logCallback( "adReceived" );
 
         showButton.setEnabled( true );
     }
@@ -64,7 +64,7 @@ public class RewardedVideosActivity
     public void failedToReceiveAd(int errorCode)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback();
+        logCallback( "failedToReceiveAd" );
 
         showButton.setEnabled( true );
     }
@@ -74,27 +74,27 @@ public class RewardedVideosActivity
     //region Ad Display Listener
 
     @Override
-    public void adDisplayed(AppLovinAd appLovinAd) { logCallback(); }
+    public void adDisplayed(AppLovinAd appLovinAd) { logCallback( "adDisplayed" ); }
 
     @Override
-    public void adHidden(AppLovinAd appLovinAd) { logCallback(); }
+    public void adHidden(AppLovinAd appLovinAd) { logCallback( "adHidden" ); }
 
     //endregion
 
     //region Ad Click Listener
 
     @Override
-    public void adClicked(AppLovinAd appLovinAd) { logCallback(); }
+    public void adClicked(AppLovinAd appLovinAd) { logCallback( "adClicked" ); }
 
     //endregion
 
     //region Ad Video Playback Listener
 
     @Override
-    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback(); }
+    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback( "videoPlaybackBegan" ); }
 
     @Override
-    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback(); }
+    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback( "videoPlaybackEnded" ); }
 
     //endregion
 
@@ -105,7 +105,7 @@ public class RewardedVideosActivity
     {
         // AppLovin servers validated the reward. Refresh user balance from your server.  We will also pass the number of coins
         // awarded and the name of the currency.  However, ideally, you should verify this with your server before granting it.
-        logCallback();
+        logCallback( "userRewardVerified" );
     }
 
     @Override
@@ -115,7 +115,7 @@ public class RewardedVideosActivity
         // don't give them any more money. By default we'll show them a alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback();
+        logCallback( "userOverQuota" );
     }
 
     @Override
@@ -125,7 +125,7 @@ public class RewardedVideosActivity
         // them, for example. Don't grant them any currency. By default we'll show them an alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback();
+        logCallback( "userRewardRejected" );
     }
 
     @Override
@@ -150,7 +150,7 @@ public class RewardedVideosActivity
             // Note: This code is only possible when working with rewarded videos.
         }
 
-        logCallback();
+        logCallback( "validationRequestFailed" );
     }
 
     //endregion
@@ -57,7 +57,7 @@ public class RewardedVideosZoneActivity
     @Override
     public void adReceived(AppLovinAd appLovinAd)
     {
-        logCallback();
+        logCallback( "adReceived" );
 
         showButton.setEnabled( true );
     }
@@ -66,7 +66,7 @@ public class RewardedVideosZoneActivity
     public void failedToReceiveAd(int errorCode)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback();
+        logCallback( "failedToReceiveAd" );
 
         showButton.setEnabled( true );
     }
@@ -76,27 +76,27 @@ public class RewardedVideosZoneActivity
     //region Ad Display Listener
 
     @Override
-    public void adDisplayed(AppLovinAd appLovinAd) { logCallback(); }
+    public void adDisplayed(AppLovinAd appLovinAd) { logCallback( "adDisplayed" ); }
 
     @Override
-    public void adHidden(AppLovinAd appLovinAd) { logCallback(); }
+    public void adHidden(AppLovinAd appLovinAd) { logCallback( "adHidden" ); }
 
     //endregion
 
     //region Ad Click Listener
 
     @Override
-    public void adClicked(AppLovinAd appLovinAd) { logCallback(); }
+    public void adClicked(AppLovinAd appLovinAd) { logCallback( "adClicked" ); }
 
     //endregion
 
     //region Ad Video Playback Listener
 
     @Override
-    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback(); }
+    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback( "videoPlaybackBegan" ); }
 
     @Override
-    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback(); }
+    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback( "videoPlaybackEnded" ); }
 
     //endregion
 
@@ -107,7 +107,7 @@ public class RewardedVideosZoneActivity
     {
         // AppLovin servers validated the reward. Refresh user balance from your server.  We will also pass the number of coins
         // awarded and the name of the currency.  However, ideally, you should verify this with your server before granting it.
-        logCallback();
+        logCallback( "userRewardVerified" );
     }
 
     @Override
@@ -117,7 +117,7 @@ public class RewardedVideosZoneActivity
         // don't give them any more money. By default we'll show them a alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback();
+        logCallback( "userOverQuota" );
     }
 
     @Override
@@ -127,7 +127,7 @@ public class RewardedVideosZoneActivity
         // them, for example. Don't grant them any currency. By default we'll show them an alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback();
+        logCallback( "userRewardRejected" );
     }
 
     @Override
@@ -152,7 +152,7 @@ public class RewardedVideosZoneActivity
             // Note: This code is only possible when working with rewarded videos.
         }
 
-        logCallback();
+        logCallback( "validationRequestFailed" );
     }
 
     //endregion
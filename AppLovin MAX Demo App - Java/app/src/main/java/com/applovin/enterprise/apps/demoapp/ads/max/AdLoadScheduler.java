@@ -0,0 +1,258 @@
+package com.applovin.enterprise.apps.demoapp.ads.max;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.OnLifecycleEvent;
+
+/**
+ * Schedules ad load retries per ad unit for the lifetime of the application, with exponential backoff and jitter, so that ad units failing together
+ * (e.g. while offline) do not retry in lockstep, and the backoff of an ad unit survives the screens that show its ads.
+ * <p>
+ * At most one retry is pending per ad unit. Screens {@link #observe} the ad units they show, and a retry that comes due while none of its observers is
+ * started, or while the device is offline, is held until an observer is started and the device is back online. Must only be used from the main thread.
+ */
+public class AdLoadScheduler
+{
+    // We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds)
+    private static final int MAX_BACKOFF_EXPONENT = 6;
+
+    private static AdLoadScheduler instance;
+
+    private final Context                     context;
+    private final Handler                     handler         = new Handler( Looper.getMainLooper() );
+    private final Random                      random          = new Random();
+    private final Map<String, Integer>        retryAttempts   = new HashMap<>();
+    private final Map<String, PendingLoad>    pendingLoads    = new HashMap<>();
+    private final Map<String, List<Observer>> observers       = new HashMap<>();
+    private final BroadcastReceiver           networkReceiver = new BroadcastReceiver()
+    {
+        @Override
+        public void onReceive(final Context context, final Intent intent)
+        {
+            if ( isOnline() )
+            {
+                // Loads that are still offline register the receiver again
+                unregisterNetworkReceiver();
+                runHeldLoads( null );
+            }
+        }
+    };
+
+    private boolean isNetworkReceiverRegistered;
+
+    public static AdLoadScheduler getInstance(final Context context)
+    {
+        if ( instance == null )
+        {
+            instance = new AdLoadScheduler( context.getApplicationContext() );
+        }
+
+        return instance;
+    }
+
+    private AdLoadScheduler(final Context applicationContext)
+    {
+        this.context = applicationContext;
+    }
+
+    /**
+     * Let the owner observe the ad unit until it is destroyed. Retries of the ad unit only run while at least one of its observers is started.
+     */
+    public void observe(final String adUnitId, final LifecycleOwner owner)
+    {
+        Lifecycle lifecycle = owner.getLifecycle();
+        if ( lifecycle.getCurrentState() == Lifecycle.State.DESTROYED ) return;
+
+        List<Observer> adUnitObservers = observers.get( adUnitId );
+        if ( adUnitObservers == null )
+        {
+            adUnitObservers = new ArrayList<>();
+            observers.put( adUnitId, adUnitObservers );
+        }
+
+        Observer observer = new Observer( adUnitId, lifecycle );
+        adUnitObservers.add( observer );
+        lifecycle.addObserver( observer );
+    }
+
+    /**
+     * Schedule a retry of a failed load for the given ad unit. Does nothing if a retry is already pending for it.
+     */
+    public void scheduleRetry(final String adUnitId, final Runnable load)
+    {
+        if ( pendingLoads.containsKey( adUnitId ) ) return;
+
+        Integer previousAttempts = retryAttempts.get( adUnitId );
+        int retryAttempt = ( previousAttempts != null ) ? previousAttempts + 1 : 1;
+        retryAttempts.put( adUnitId, retryAttempt );
+
+        // "Equal jitter" - wait at least half of the backoff so retries still back off, and randomize the rest to spread them out
+        long backoffMillis = TimeUnit.SECONDS.toMillis( 1L << Math.min( MAX_BACKOFF_EXPONENT, retryAttempt ) );
+        long delayMillis = backoffMillis / 2 + (long) ( random.nextDouble() * ( backoffMillis / 2 ) );
+
+        PendingLoad pendingLoad = new PendingLoad( adUnitId, load );
+        pendingLoads.put( adUnitId, pendingLoad );
+        handler.postDelayed( pendingLoad, delayMillis );
+    }
+
+    /**
+     * @return Whether a retry is pending for the given ad unit, including a retry that is held until the ad unit is observed and the device is online.
+     */
+    public boolean isRetryPending(final String adUnitId)
+    {
+        return pendingLoads.containsKey( adUnitId );
+    }
+
+    /**
+     * Reset the backoff for the given ad unit after a successful load.
+     */
+    public void reset(final String adUnitId)
+    {
+        retryAttempts.remove( adUnitId );
+
+        PendingLoad pendingLoad = pendingLoads.remove( adUnitId );
+        if ( pendingLoad != null )
+        {
+            handler.removeCallbacks( pendingLoad );
+        }
+    }
+
+    private boolean isObserved(final String adUnitId)
+    {
+        List<Observer> adUnitObservers = observers.get( adUnitId );
+        if ( adUnitObservers == null ) return false;
+
+        for ( Observer observer : adUnitObservers )
+        {
+            if ( observer.lifecycle.getCurrentState().isAtLeast( Lifecycle.State.STARTED ) ) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Run the held loads of the given ad unit, or of all ad units if it is null.
+     */
+    private void runHeldLoads(final String adUnitId)
+    {
+        for ( PendingLoad pendingLoad : new ArrayList<>( pendingLoads.values() ) )
+        {
+            if ( pendingLoad.isHeld && ( adUnitId == null || adUnitId.equals( pendingLoad.adUnitId ) ) )
+            {
+                pendingLoad.run();
+            }
+        }
+    }
+
+    private boolean isOnline()
+    {
+        ConnectivityManager connectivityManager = (ConnectivityManager) context.getSystemService( Context.CONNECTIVITY_SERVICE );
+        NetworkInfo networkInfo = ( connectivityManager != null ) ? connectivityManager.getActiveNetworkInfo() : null;
+        return networkInfo != null && networkInfo.isConnected();
+    }
+
+    private void registerNetworkReceiver()
+    {
+        if ( isNetworkReceiverRegistered ) return;
+
+        context.registerReceiver( networkReceiver, new IntentFilter( ConnectivityManager.CONNECTIVITY_ACTION ) );
+        isNetworkReceiverRegistered = true;
+    }
+
+    private void unregisterNetworkReceiver()
+    {
+        if ( !isNetworkReceiverRegistered ) return;
+
+        context.unregisterReceiver( networkReceiver );
+        isNetworkReceiverRegistered = false;
+    }
+
+    private class Observer
+            implements LifecycleObserver
+    {
+        private final String    adUnitId;
+        private final Lifecycle lifecycle;
+
+        Observer(final String adUnitId, final Lifecycle lifecycle)
+        {
+            this.adUnitId = adUnitId;
+            this.lifecycle = lifecycle;
+        }
+
+        @OnLifecycleEvent(Lifecycle.Event.ON_START)
+        void onStart()
+        {
+            runHeldLoads( adUnitId );
+        }
+
+        @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
+        void onDestroy()
+        {
+            lifecycle.removeObserver( this );
+
+            // Pending retries are kept, and held until the next screen observing the ad unit is started
+            List<Observer> adUnitObservers = observers.get( adUnitId );
+            if ( adUnitObservers != null )
+            {
+                adUnitObservers.remove( this );
+                if ( adUnitObservers.isEmpty() )
+                {
+                    observers.remove( adUnitId );
+                }
+            }
+        }
+    }
+
+    private class PendingLoad
+            implements Runnable
+    {
+        private final String   adUnitId;
+        private final Runnable load;
+
+        // Whether the retry came due while unobserved or offline and is waiting to be resumed
+        private boolean isHeld;
+
+        PendingLoad(final String adUnitId, final Runnable load)
+        {
+            this.adUnitId = adUnitId;
+            this.load = load;
+        }
+
+        @Override
+        public void run()
+        {
+            if ( !isObserved( adUnitId ) )
+            {
+                isHeld = true;
+                return;
+            }
+
+            if ( !isOnline() )
+            {
+                isHeld = true;
+                registerNetworkReceiver();
+                return;
+            }
+
+            pendingLoads.remove( adUnitId );
+            load.run();
+        }
+    }
+}
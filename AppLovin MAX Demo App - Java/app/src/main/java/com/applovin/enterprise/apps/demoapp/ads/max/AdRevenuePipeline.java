@@ -0,0 +1,318 @@
+package com.applovin.enterprise.apps.demoapp.ads.max;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.adjust.sdk.Adjust;
+import com.adjust.sdk.AdjustAdRevenue;
+import com.adjust.sdk.AdjustConfig;
+import com.applovin.mediation.MaxAd;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Forwards MAX ad revenue to Adjust in batches from a background thread, instead of one synchronous {@link Adjust#trackAdRevenue} call per impression.
+ * <p>
+ * Impressions are enqueued without locking and appended to a small file on the pipeline thread so they survive process death. Once {@link #BATCH_SIZE}
+ * impressions are queued, or every {@link #FLUSH_INTERVAL_SECONDS} seconds, they are coalesced per network, ad unit and placement and sent to Adjust.
+ * Coalescing sums the revenue of a batch, so Adjust receives one total per network, ad unit and placement rather than the revenue of each impression.
+ * <p>
+ * A batch is moved to an in-flight file before it is sent, and deleted once sent. An in-flight file left behind by process death is dropped rather than
+ * sent again, as Adjust may already have received it.
+ */
+public class AdRevenuePipeline
+{
+    private static final String TAG                    = "AdRevenuePipeline";
+    private static final String FILE_NAME              = "ad_revenue_queue.log";
+    private static final String IN_FLIGHT_FILE_NAME    = "ad_revenue_in_flight.log";
+    private static final String FIELD_SEPARATOR        = "\t";
+    private static final int    BATCH_SIZE             = 10;
+    private static final long   FLUSH_INTERVAL_SECONDS = 30;
+
+    private static volatile AdRevenuePipeline instance;
+
+    private final File                                file;
+    private final File                                inFlightFile;
+    private final ConcurrentLinkedQueue<RevenueEvent> incomingEvents     = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                       queueDepth         = new AtomicInteger();
+    private final AtomicBoolean                       isPersistScheduled = new AtomicBoolean();
+    private final AtomicBoolean                       isFlushScheduled   = new AtomicBoolean();
+    private final ScheduledExecutorService            executor           = Executors.newSingleThreadScheduledExecutor();
+    private final Runnable                            persistTask        = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            isPersistScheduled.set( false );
+            persist();
+        }
+    };
+    private final Runnable                            flushTask          = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            isFlushScheduled.set( false );
+            flush();
+        }
+    };
+
+    // Events that have been written to the file but not yet sent to Adjust. Only accessed on the pipeline thread.
+    private final List<RevenueEvent> persistedEvents = new ArrayList<>();
+    private       boolean            isStarted;
+
+    public static AdRevenuePipeline getInstance(final Context context)
+    {
+        if ( instance == null )
+        {
+            synchronized ( AdRevenuePipeline.class )
+            {
+                if ( instance == null )
+                {
+                    instance = new AdRevenuePipeline( context.getApplicationContext() );
+                }
+            }
+        }
+
+        return instance;
+    }
+
+    private AdRevenuePipeline(final Context context)
+    {
+        file = new File( context.getFilesDir(), FILE_NAME );
+        inFlightFile = new File( context.getFilesDir(), IN_FLIGHT_FILE_NAME );
+        executor.execute( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                restore();
+            }
+        } );
+    }
+
+    /**
+     * Start sending revenue to Adjust. Must be called once Adjust has been initialized - impressions tracked before then are held until this is called.
+     */
+    public void start()
+    {
+        executor.execute( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                if ( isStarted ) return;
+
+                isStarted = true;
+                flush();
+                executor.scheduleWithFixedDelay( flushTask, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS );
+            }
+        } );
+    }
+
+    /**
+     * Enqueue the revenue of an impression. Safe to call from any thread.
+     */
+    public void track(final MaxAd ad)
+    {
+        incomingEvents.offer( new RevenueEvent( ad.getNetworkName(), ad.getAdUnitId(), ad.getPlacement(), ad.getRevenue() ) );
+
+        if ( queueDepth.incrementAndGet() >= BATCH_SIZE )
+        {
+            if ( isFlushScheduled.compareAndSet( false, true ) )
+            {
+                executor.execute( flushTask );
+            }
+        }
+        else if ( isPersistScheduled.compareAndSet( false, true ) )
+        {
+            executor.execute( persistTask );
+        }
+    }
+
+    /**
+     * @return The number of impressions that have not been sent to Adjust yet.
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth.get();
+    }
+
+    private void restore()
+    {
+        // The process died while sending this batch, so Adjust may already have it - drop it rather than risk counting its revenue twice
+        if ( inFlightFile.exists() )
+        {
+            Log.w( TAG, "Dropping ad revenue batch that was being sent when the process died" );
+            inFlightFile.delete();
+        }
+
+        if ( !file.exists() ) return;
+
+        try ( BufferedReader reader = new BufferedReader( new FileReader( file ) ) )
+        {
+            String line;
+            while ( ( line = reader.readLine() ) != null )
+            {
+                RevenueEvent event = RevenueEvent.fromLine( line );
+                if ( event != null )
+                {
+                    persistedEvents.add( event );
+                }
+            }
+        }
+        catch ( IOException exception )
+        {
+            Log.e( TAG, "Unable to restore queued ad revenue", exception );
+        }
+
+        queueDepth.addAndGet( persistedEvents.size() );
+        Log.d( TAG, "Restored " + persistedEvents.size() + " queued ad revenue events" );
+    }
+
+    private void persist()
+    {
+        if ( incomingEvents.isEmpty() ) return;
+
+        try ( Writer writer = new FileWriter( file, true ) )
+        {
+            RevenueEvent event;
+            while ( ( event = incomingEvents.poll() ) != null )
+            {
+                persistedEvents.add( event );
+                writer.write( event.toLine() );
+            }
+        }
+        catch ( IOException exception )
+        {
+            // Keep the events in memory so they are still sent if the process survives
+            Log.e( TAG, "Unable to persist ad revenue", exception );
+
+            RevenueEvent event;
+            while ( ( event = incomingEvents.poll() ) != null )
+            {
+                persistedEvents.add( event );
+            }
+        }
+    }
+
+    private void flush()
+    {
+        persist();
+
+        if ( !isStarted || persistedEvents.isEmpty() ) return;
+
+        // Move the batch out of the queue file before sending it, so it is not sent again if the process dies mid-send
+        if ( file.exists() && !file.renameTo( inFlightFile ) )
+        {
+            Log.e( TAG, "Unable to move queued ad revenue aside for sending, retrying on next flush" );
+            return;
+        }
+
+        Map<String, RevenueBatch> batches = new LinkedHashMap<>();
+        for ( RevenueEvent event : persistedEvents )
+        {
+            String key = event.networkName + FIELD_SEPARATOR + event.adUnitId + FIELD_SEPARATOR + event.placement;
+            RevenueBatch batch = batches.get( key );
+            if ( batch == null )
+            {
+                batch = new RevenueBatch( event );
+                batches.put( key, batch );
+            }
+
+            batch.revenue += event.revenue;
+            batch.impressionsCount++;
+        }
+
+        for ( RevenueBatch batch : batches.values() )
+        {
+            AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
+            adjustAdRevenue.setRevenue( batch.revenue, "USD" );
+            adjustAdRevenue.setAdImpressionsCount( batch.impressionsCount );
+            adjustAdRevenue.setAdRevenueNetwork( batch.networkName );
+            adjustAdRevenue.setAdRevenueUnit( batch.adUnitId );
+            adjustAdRevenue.setAdRevenuePlacement( batch.placement );
+
+            Adjust.trackAdRevenue( adjustAdRevenue );
+        }
+
+        int flushedCount = persistedEvents.size();
+        persistedEvents.clear();
+        inFlightFile.delete();
+
+        int remainingCount = queueDepth.addAndGet( -flushedCount );
+        Log.d( TAG, "Sent " + flushedCount + " impressions in " + batches.size() + " batches to Adjust, queue depth: " + remainingCount );
+    }
+
+    private static class RevenueEvent
+    {
+        private final String networkName;
+        private final String adUnitId;
+        private final String placement;
+        private final double revenue;
+
+        RevenueEvent(final String networkName, final String adUnitId, final String placement, final double revenue)
+        {
+            this.networkName = networkName;
+            this.adUnitId = adUnitId;
+            this.placement = placement;
+            this.revenue = revenue;
+        }
+
+        String toLine()
+        {
+            return sanitize( networkName ) + FIELD_SEPARATOR + sanitize( adUnitId ) + FIELD_SEPARATOR + sanitize( placement ) + FIELD_SEPARATOR + revenue + "\n";
+        }
+
+        static RevenueEvent fromLine(final String line)
+        {
+            String[] fields = line.split( FIELD_SEPARATOR, -1 );
+            if ( fields.length != 4 ) return null;
+
+            try
+            {
+                return new RevenueEvent( fields[0], fields[1], fields[2].isEmpty() ? null : fields[2], Double.parseDouble( fields[3] ) );
+            }
+            catch ( NumberFormatException exception )
+            {
+                return null;
+            }
+        }
+
+        private static String sanitize(final String value)
+        {
+            return ( value != null ) ? value.replace( '\t', ' ' ).replace( '\n', ' ' ) : "";
+        }
+    }
+
+    private static class RevenueBatch
+    {
+        private final String networkName;
+        private final String adUnitId;
+        private final String placement;
+        private       double revenue;
+        private       int    impressionsCount;
+
+        RevenueBatch(final RevenueEvent event)
+        {
+            this.networkName = event.networkName;
+            this.adUnitId = event.adUnitId;
+            this.placement = event.placement;
+        }
+    }
+}
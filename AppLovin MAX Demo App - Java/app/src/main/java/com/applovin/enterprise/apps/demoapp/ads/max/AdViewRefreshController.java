@@ -0,0 +1,190 @@
+package com.applovin.enterprise.apps.demoapp.ads.max;
+
+import android.graphics.Rect;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import com.applovin.mediation.ads.MaxAdView;
+
+import java.util.Locale;
+
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.OnLifecycleEvent;
+
+/**
+ * Pauses the auto-refresh of a banner or MREC {@link MaxAdView} while nobody can see it, and resumes it once the ad is on screen again.
+ * <p>
+ * Auto-refresh runs only while the owner is resumed and at least {@link #MIN_VISIBLE_PERCENTAGE}% of the ad view is on screen, so ads are not fetched
+ * for a view that is scrolled off-screen, covered by another activity or in a backgrounded app. Visibility is re-checked at most once per frame when
+ * the view hierarchy scrolls or is laid out. Must only be used from the main thread.
+ */
+public class AdViewRefreshController
+        implements LifecycleObserver
+{
+    // The share of an ad that must be on screen for it to count as viewable
+    private static final int MIN_VISIBLE_PERCENTAGE = 50;
+
+    public interface Listener
+    {
+        void onAutoRefreshChanged(boolean isAutoRefreshing);
+    }
+
+    private final MaxAdView                                adView;
+    private final Lifecycle                                lifecycle;
+    private final Listener                                 listener;
+    private final Rect                                     visibleRect           = new Rect();
+    private final ViewTreeObserver.OnScrollChangedListener scrollChangedListener = new ViewTreeObserver.OnScrollChangedListener()
+    {
+        @Override
+        public void onScrollChanged()
+        {
+            scheduleUpdate();
+        }
+    };
+    private final ViewTreeObserver.OnGlobalLayoutListener  globalLayoutListener  = new ViewTreeObserver.OnGlobalLayoutListener()
+    {
+        @Override
+        public void onGlobalLayout()
+        {
+            scheduleUpdate();
+        }
+    };
+    private final View.OnAttachStateChangeListener         attachStateListener   = new View.OnAttachStateChangeListener()
+    {
+        @Override
+        public void onViewAttachedToWindow(final View view)
+        {
+            addViewTreeListeners();
+            update();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(final View view)
+        {
+            removeViewTreeListeners();
+            update();
+        }
+    };
+    private final Runnable                                 updateTask            = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            isUpdateScheduled = false;
+            update();
+        }
+    };
+
+    private boolean isAutoRefreshing = true;
+    private boolean isUpdateScheduled;
+    private int     pauseCount;
+    private long    pausedAtMillis;
+    private long    totalPausedMillis;
+
+    public AdViewRefreshController(final MaxAdView adView, final LifecycleOwner owner, final Listener listener)
+    {
+        this.adView = adView;
+        this.lifecycle = owner.getLifecycle();
+        this.listener = listener;
+
+        adView.addOnAttachStateChangeListener( attachStateListener );
+        if ( adView.getWindowToken() != null )
+        {
+            addViewTreeListeners();
+        }
+
+        // Auto-refresh is paused or resumed as soon as the owner is resumed
+        lifecycle.addObserver( this );
+    }
+
+    /**
+     * @return The number of times auto-refresh was paused, and for how long in total.
+     */
+    public String getStats()
+    {
+        long pausedMillis = totalPausedMillis + ( isAutoRefreshing ? 0 : SystemClock.elapsedRealtime() - pausedAtMillis );
+        return String.format( Locale.US, "auto-refresh paused %d times, %.1fs in total", pauseCount, pausedMillis / 1000f );
+    }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_RESUME)
+    void onResume()
+    {
+        update();
+    }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_PAUSE)
+    void onPause()
+    {
+        update();
+    }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
+    void onDestroy()
+    {
+        adView.removeCallbacks( updateTask );
+        adView.removeOnAttachStateChangeListener( attachStateListener );
+        removeViewTreeListeners();
+
+        lifecycle.removeObserver( this );
+    }
+
+    private void scheduleUpdate()
+    {
+        if ( isUpdateScheduled ) return;
+
+        isUpdateScheduled = true;
+        adView.postOnAnimation( updateTask );
+    }
+
+    private void update()
+    {
+        // Wait for the first layout before judging whether the ad is visible
+        if ( adView.getWidth() == 0 && adView.isLayoutRequested() ) return;
+
+        boolean shouldAutoRefresh = lifecycle.getCurrentState().isAtLeast( Lifecycle.State.RESUMED ) && getVisiblePercentage() >= MIN_VISIBLE_PERCENTAGE;
+        if ( shouldAutoRefresh == isAutoRefreshing ) return;
+
+        isAutoRefreshing = shouldAutoRefresh;
+
+        if ( shouldAutoRefresh )
+        {
+            totalPausedMillis += SystemClock.elapsedRealtime() - pausedAtMillis;
+            adView.startAutoRefresh();
+        }
+        else
+        {
+            pauseCount++;
+            pausedAtMillis = SystemClock.elapsedRealtime();
+            adView.stopAutoRefresh();
+        }
+
+        listener.onAutoRefreshChanged( shouldAutoRefresh );
+    }
+
+    private int getVisiblePercentage()
+    {
+        long area = (long) adView.getWidth() * adView.getHeight();
+        if ( area == 0 || !adView.isShown() || !adView.getGlobalVisibleRect( visibleRect ) ) return 0;
+
+        return (int) ( 100L * visibleRect.width() * visibleRect.height() / area );
+    }
+
+    private void addViewTreeListeners()
+    {
+        ViewTreeObserver observer = adView.getViewTreeObserver();
+        observer.addOnScrollChangedListener( scrollChangedListener );
+        observer.addOnGlobalLayoutListener( globalLayoutListener );
+    }
+
+    private void removeViewTreeListeners()
+    {
+        ViewTreeObserver observer = adView.getViewTreeObserver();
+        if ( !observer.isAlive() ) return;
+
+        observer.removeOnScrollChangedListener( scrollChangedListener );
+        observer.removeOnGlobalLayoutListener( globalLayoutListener );
+    }
+}
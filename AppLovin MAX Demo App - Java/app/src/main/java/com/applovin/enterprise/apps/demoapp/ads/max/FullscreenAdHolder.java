@@ -0,0 +1,293 @@
+package com.applovin.enterprise.apps.demoapp.ads.max;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxError;
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.MaxRewardedAdListener;
+import com.applovin.mediation.ads.MaxInterstitialAd;
+import com.applovin.mediation.ads.MaxRewardedAd;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import androidx.lifecycle.LifecycleOwner;
+
+/**
+ * Holds MAX interstitial and rewarded ads per format and ad unit for the lifetime of the application, so that an ad which has already been loaded survives
+ * configuration changes and navigating away from the screen that shows it, instead of being discarded and auctioned again.
+ * <p>
+ * An activity {@link #attach}es itself as the listener of an ad unit in onCreate and {@link #detach}es in onDestroy. The ads are created with the
+ * application context and are shown with the activity that is current at the time, so the holder never references a destroyed activity. The next ad is
+ * pre-loaded as soon as one is hidden or fails to display, and failed loads are retried by the {@link AdLoadScheduler}. Must only be used from the main
+ * thread.
+ * <p>
+ * The holder owns the listeners of its ads. As the SDK shares one {@link MaxRewardedAd} per ad unit, nothing else may set the listener of a rewarded ad
+ * unit that is held here.
+ */
+public class FullscreenAdHolder
+{
+    public enum Format
+    {
+        INTERSTITIAL, REWARDED
+    }
+
+    private static FullscreenAdHolder instance;
+
+    private final Context            applicationContext;
+    private final AdLoadScheduler    adLoadScheduler;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private int attachCount;
+    private int loadCount;
+    private int savedLoadCount;
+
+    public static FullscreenAdHolder getInstance(final Context context)
+    {
+        if ( instance == null )
+        {
+            instance = new FullscreenAdHolder( context.getApplicationContext() );
+        }
+
+        return instance;
+    }
+
+    private FullscreenAdHolder(final Context applicationContext)
+    {
+        this.applicationContext = applicationContext;
+        this.adLoadScheduler = AdLoadScheduler.getInstance( applicationContext );
+    }
+
+    /**
+     * Set the listener of the ad unit's ad, and load it unless an ad is already loaded or loading, or a failed load is waiting to be retried. Rewarded
+     * callbacks are only forwarded to listeners that implement {@link MaxRewardedAdListener}, and ad revenue only to listeners that implement
+     * {@link MaxAdRevenueListener}.
+     */
+    public void attach(final String adUnitId, final Format format, final MaxAdListener listener)
+    {
+        String key = getKey( adUnitId, format );
+        Entry entry = entries.get( key );
+        if ( entry == null )
+        {
+            entry = new Entry( key, adUnitId, format );
+            entries.put( key, entry );
+        }
+
+        entry.listener = listener;
+        attachCount++;
+
+        // Leave an ad unit whose load failed to its pending retry, so that re-attaching does not bypass the backoff
+        if ( entry.isLoading || entry.isReady() )
+        {
+            savedLoadCount++;
+        }
+        else if ( !adLoadScheduler.isRetryPending( key ) )
+        {
+            entry.load();
+        }
+    }
+
+    /**
+     * Retry failed loads of the ad unit's ad while the owner is started, see {@link AdLoadScheduler#observe}.
+     */
+    public void observeRetries(final String adUnitId, final Format format, final LifecycleOwner owner)
+    {
+        adLoadScheduler.observe( getKey( adUnitId, format ), owner );
+    }
+
+    /**
+     * Remove the listener of the ad unit's ad, if it is still the given one. The ad itself is kept.
+     */
+    public void detach(final String adUnitId, final Format format, final MaxAdListener listener)
+    {
+        Entry entry = entries.get( getKey( adUnitId, format ) );
+        if ( entry != null && entry.listener == listener )
+        {
+            entry.listener = null;
+        }
+    }
+
+    public boolean isReady(final String adUnitId, final Format format)
+    {
+        Entry entry = entries.get( getKey( adUnitId, format ) );
+        return entry != null && entry.isReady();
+    }
+
+    public void showAd(final String adUnitId, final Format format, final Activity activity)
+    {
+        Entry entry = entries.get( getKey( adUnitId, format ) );
+        if ( entry == null || !entry.isReady() ) return;
+
+        if ( entry.interstitialAd != null )
+        {
+            entry.interstitialAd.showAd( activity );
+        }
+        else
+        {
+            entry.rewardedAd.showAd( activity );
+        }
+    }
+
+    /**
+     * @return The number of times a screen attached to an ad unit, the number of ads loaded, and the number of loads saved by reusing a held ad.
+     */
+    public String getStats()
+    {
+        return String.format( Locale.US, "%d attaches, %d loads, %d loads saved", attachCount, loadCount, savedLoadCount );
+    }
+
+    // The same ad unit ID may be used with both formats, e.g. while it is still a placeholder
+    private static String getKey(final String adUnitId, final Format format)
+    {
+        return format + "/" + adUnitId;
+    }
+
+    private class Entry
+            implements MaxRewardedAdListener, MaxAdRevenueListener
+    {
+        private final String            key;
+        private final MaxInterstitialAd interstitialAd;
+        private final MaxRewardedAd     rewardedAd;
+        private final Runnable          retryTask = new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                if ( !isLoading && !isReady() ) load();
+            }
+        };
+
+        private MaxAdListener listener;
+        private boolean       isLoading;
+
+        private Entry(final String key, final String adUnitId, final Format format)
+        {
+            this.key = key;
+
+            if ( format == Format.INTERSTITIAL )
+            {
+                interstitialAd = new MaxInterstitialAd( adUnitId, applicationContext );
+                interstitialAd.setListener( this );
+                interstitialAd.setRevenueListener( this );
+                rewardedAd = null;
+            }
+            else
+            {
+                rewardedAd = MaxRewardedAd.getInstance( adUnitId, applicationContext );
+                rewardedAd.setListener( this );
+                rewardedAd.setRevenueListener( this );
+                interstitialAd = null;
+            }
+        }
+
+        private boolean isReady()
+        {
+            return ( interstitialAd != null ) ? interstitialAd.isReady() : rewardedAd.isReady();
+        }
+
+        private void load()
+        {
+            isLoading = true;
+            loadCount++;
+
+            if ( interstitialAd != null )
+            {
+                interstitialAd.loadAd();
+            }
+            else
+            {
+                rewardedAd.loadAd();
+            }
+        }
+
+        //region MAX Ad Listener
+
+        @Override
+        public void onAdLoaded(final MaxAd ad)
+        {
+            isLoading = false;
+            adLoadScheduler.reset( key );
+
+            if ( listener != null ) listener.onAdLoaded( ad );
+        }
+
+        @Override
+        public void onAdLoadFailed(final String adUnitId, final MaxError error)
+        {
+            isLoading = false;
+
+            // The retry is held until a screen observing the ad unit is started
+            adLoadScheduler.scheduleRetry( key, retryTask );
+
+            if ( listener != null ) listener.onAdLoadFailed( adUnitId, error );
+        }
+
+        @Override
+        public void onAdDisplayFailed(final MaxAd ad, final MaxError error)
+        {
+            // Load the next ad, whether or not a screen is attached
+            if ( !isLoading ) load();
+
+            if ( listener != null ) listener.onAdDisplayFailed( ad, error );
+        }
+
+        @Override
+        public void onAdDisplayed(final MaxAd ad)
+        {
+            if ( listener != null ) listener.onAdDisplayed( ad );
+        }
+
+        @Override
+        public void onAdClicked(final MaxAd ad)
+        {
+            if ( listener != null ) listener.onAdClicked( ad );
+        }
+
+        @Override
+        public void onAdHidden(final MaxAd ad)
+        {
+            // Pre-load the next ad, whether or not a screen is attached
+            if ( !isLoading ) load();
+
+            if ( listener != null ) listener.onAdHidden( ad );
+        }
+
+        @Override
+        public void onRewardedVideoStarted(final MaxAd ad)
+        {
+            if ( listener instanceof MaxRewardedAdListener ) ( (MaxRewardedAdListener) listener ).onRewardedVideoStarted( ad );
+        }
+
+        @Override
+        public void onRewardedVideoCompleted(final MaxAd ad)
+        {
+            if ( listener instanceof MaxRewardedAdListener ) ( (MaxRewardedAdListener) listener ).onRewardedVideoCompleted( ad );
+        }
+
+        @Override
+        public void onUserRewarded(final MaxAd ad, final MaxReward reward)
+        {
+            if ( listener instanceof MaxRewardedAdListener ) ( (MaxRewardedAdListener) listener ).onUserRewarded( ad, reward );
+        }
+
+        //endregion
+
+        //region MAX Ad Revenue Listener
+
+        @Override
+        public void onAdRevenuePaid(final MaxAd ad)
+        {
+            // Forward revenue even if the screen that showed the ad has been destroyed in the meantime
+            AdRevenuePipeline.getInstance( applicationContext ).track( ad );
+
+            if ( listener instanceof MaxAdRevenueListener ) ( (MaxAdRevenueListener) listener ).onAdRevenuePaid( ad );
+        }
+
+        //endregion
+    }
+}
@@ -1,21 +1,14 @@
 package com.applovin.enterprise.apps.demoapp.ads.max;
 
 import android.os.Bundle;
-import android.os.Handler;
 import android.view.View;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxAdListener;
 import com.applovin.mediation.MaxAdRevenueListener;
 import com.applovin.mediation.MaxError;
-import com.applovin.mediation.ads.MaxInterstitialAd;
-
-import java.util.concurrent.TimeUnit;
 
 /**
  * An {@link android.app.Activity} used to show AppLovin MAX interstitial ads.
@@ -26,8 +19,9 @@ public class InterstitialAdActivity
         extends BaseAdActivity
         implements MaxAdListener, MaxAdRevenueListener
 {
-    private MaxInterstitialAd interstitialAd;
-    private int               retryAttempt;
+    private static final String AD_UNIT_ID = "YOUR_AD_UNIT_ID";
+
+    private FullscreenAdHolder adHolder;
 
     @Override
     protected void onCreate(Bundle savedInstanceState)
@@ -38,20 +32,32 @@ public class InterstitialAdActivity
 
         setupCallbacksRecyclerView();
 
-        interstitialAd = new MaxInterstitialAd( "YOUR_AD_UNIT_ID", this );
+        // The ad is held by the application, so an ad loaded by a previous instance of this screen is reused instead of loading a new one.
+        adHolder = FullscreenAdHolder.getInstance( this );
+        adHolder.attach( AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this );
 
-        interstitialAd.setListener( this );
-        interstitialAd.setRevenueListener( this );
+        // Failed loads are retried by the application-wide scheduler while this screen is started.
+        adHolder.observeRetries( AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this );
 
-        // Load the first ad.
-        interstitialAd.loadAd();
+        if ( getSupportActionBar() != null )
+        {
+            getSupportActionBar().setSubtitle( "Ad holder: " + adHolder.getStats() );
+        }
+    }
+
+    @Override
+    protected void onDestroy()
+    {
+        adHolder.detach( AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this );
+
+        super.onDestroy();
     }
 
     public void onShowAdClicked(View view)
     {
-        if ( interstitialAd.isReady() )
+        if ( adHolder.isReady( AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL ) )
         {
-            interstitialAd.showAd();
+            adHolder.showAd( AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this );
         }
     }
 
@@ -61,54 +67,37 @@ public class InterstitialAdActivity
     public void onAdLoaded(final MaxAd ad)
     {
         // Interstitial ad is ready to be shown. interstitialAd.isReady() will now return 'true'.
-        logCallback();
-
-        // Reset retry attempt
-        retryAttempt = 0;
+        logCallback( "onAdLoaded" );
     }
 
     @Override
     public void onAdLoadFailed(final String adUnitId, final MaxError maxError)
     {
-        logCallback();
-
-        // Interstitial ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
-
-        retryAttempt++;
-        long delayMillis = TimeUnit.SECONDS.toMillis( (long) Math.pow( 2, Math.min( 6, retryAttempt ) ) );
+        logCallback( "onAdLoadFailed" );
 
-        new Handler().postDelayed( new Runnable()
-        {
-            @Override
-            public void run()
-            {
-                interstitialAd.loadAd();
-            }
-        }, delayMillis );
+        // Interstitial ad failed to load. The ad holder retries with exponentially higher delays up to a maximum delay (in this case 64 seconds).
     }
 
     @Override
     public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdDisplayFailed" );
 
-        // Interstitial ad failed to display. We recommend loading the next ad.
-        interstitialAd.loadAd();
+        // Interstitial ad failed to display. The ad holder loads the next ad.
     }
 
     @Override
-    public void onAdDisplayed(final MaxAd ad) { logCallback(); }
+    public void onAdDisplayed(final MaxAd ad) { logCallback( "onAdDisplayed" ); }
 
     @Override
-    public void onAdClicked(final MaxAd ad) { logCallback(); }
+    public void onAdClicked(final MaxAd ad) { logCallback( "onAdClicked" ); }
 
     @Override
     public void onAdHidden(final MaxAd ad)
     {
-        logCallback();
+        logCallback( "onAdHidden" );
 
-        // Interstitial Ad is hidden. Pre-load the next ad
-        interstitialAd.loadAd();
+        // Interstitial Ad is hidden. The ad holder pre-loads the next ad.
     }
 
     //endregion
@@ -118,15 +107,8 @@ public class InterstitialAdActivity
     @Override
     public void onAdRevenuePaid(final MaxAd maxAd)
     {
-        logCallback();
-
-        AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-        adjustAdRevenue.setRevenue( maxAd.getRevenue(), "USD" );
-        adjustAdRevenue.setAdRevenueNetwork( maxAd.getNetworkName() );
-        adjustAdRevenue.setAdRevenueUnit( maxAd.getAdUnitId() );
-        adjustAdRevenue.setAdRevenuePlacement( maxAd.getPlacement() );
-
-        Adjust.trackAdRevenue( adjustAdRevenue );
+        // The ad holder forwards the revenue to the ad revenue pipeline.
+        logCallback( "onAdRevenuePaid" );
     }
 
     //endregion
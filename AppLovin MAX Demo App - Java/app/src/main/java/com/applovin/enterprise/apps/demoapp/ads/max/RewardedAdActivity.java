@@ -1,12 +1,8 @@
 package com.applovin.enterprise.apps.demoapp.ads.max;
 
 import android.os.Bundle;
-import android.os.Handler;
 import android.view.View;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
@@ -14,9 +10,6 @@ import com.applovin.mediation.MaxAdRevenueListener;
 import com.applovin.mediation.MaxError;
 import com.applovin.mediation.MaxReward;
 import com.applovin.mediation.MaxRewardedAdListener;
-import com.applovin.mediation.ads.MaxRewardedAd;
-
-import java.util.concurrent.TimeUnit;
 
 /**
  * An {@link android.app.Activity} used to show AppLovin MAX rewarded ads.
@@ -27,8 +20,9 @@ public class RewardedAdActivity
         extends BaseAdActivity
         implements MaxRewardedAdListener, MaxAdRevenueListener
 {
-    private MaxRewardedAd rewardedAd;
-    private int           retryAttempt;
+    private static final String AD_UNIT_ID = "YOUR_AD_UNIT_ID";
+
+    private FullscreenAdHolder adHolder;
 
     @Override
     protected void onCreate(Bundle savedInstanceState)
@@ -39,20 +33,32 @@ public class RewardedAdActivity
 
         setupCallbacksRecyclerView();
 
-        rewardedAd = MaxRewardedAd.getInstance( "YOUR_AD_UNIT_ID", this );
+        // The ad is held by the application, so an ad loaded by a previous instance of this screen is reused instead of loading a new one.
+        adHolder = FullscreenAdHolder.getInstance( this );
+        adHolder.attach( AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this );
 
-        rewardedAd.setListener( this );
-        rewardedAd.setRevenueListener( this );
+        // Failed loads are retried by the application-wide scheduler while this screen is started.
+        adHolder.observeRetries( AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this );
 
-        // Load the first ad.
-        rewardedAd.loadAd();
+        if ( getSupportActionBar() != null )
+        {
+            getSupportActionBar().setSubtitle( "Ad holder: " + adHolder.getStats() );
+        }
+    }
+
+    @Override
+    protected void onDestroy()
+    {
+        adHolder.detach( AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this );
+
+        super.onDestroy();
     }
 
     public void onShowAdClicked(View view)
     {
-        if ( rewardedAd.isReady() )
+        if ( adHolder.isReady( AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED ) )
         {
-            rewardedAd.showAd();
+            adHolder.showAd( AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this );
         }
     }
 
@@ -62,67 +68,50 @@ public class RewardedAdActivity
     public void onAdLoaded(final MaxAd ad)
     {
         // Rewarded ad is ready to be shown. rewardedAd.isReady() will now return 'true'
-        logCallback();
-
-        // Reset retry attempt
-        retryAttempt = 0;
+        logCallback( "onAdLoaded" );
     }
 
     @Override
     public void onAdLoadFailed(final String adUnitId, final MaxError maxError)
     {
-        logCallback();
-
-        // Rewarded ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
-
-        retryAttempt++;
-        long delayMillis = TimeUnit.SECONDS.toMillis( (long) Math.pow( 2, Math.min( 6, retryAttempt ) ) );
+        logCallback( "onAdLoadFailed" );
 
-        new Handler().postDelayed( new Runnable()
-        {
-            @Override
-            public void run()
-            {
-                rewardedAd.loadAd();
-            }
-        }, delayMillis );
+        // Rewarded ad failed to load. The ad holder retries with exponentially higher delays up to a maximum delay (in this case 64 seconds).
     }
 
     @Override
     public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdDisplayFailed" );
 
-        // Rewarded ad failed to display. We recommend loading the next ad.
-        rewardedAd.loadAd();
+        // Rewarded ad failed to display. The ad holder loads the next ad.
     }
 
     @Override
-    public void onAdDisplayed(final MaxAd ad) { logCallback(); }
+    public void onAdDisplayed(final MaxAd ad) { logCallback( "onAdDisplayed" ); }
 
     @Override
-    public void onAdClicked(final MaxAd ad) { logCallback(); }
+    public void onAdClicked(final MaxAd ad) { logCallback( "onAdClicked" ); }
 
     @Override
     public void onAdHidden(final MaxAd ad)
     {
-        logCallback();
+        logCallback( "onAdHidden" );
 
-        // Rewarded ad is hidden. Pre-load the the next ad
-        rewardedAd.loadAd();
+        // Rewarded ad is hidden. The ad holder pre-loads the next ad.
     }
 
     @Override
-    public void onRewardedVideoStarted(final MaxAd ad) { logCallback(); }
+    public void onRewardedVideoStarted(final MaxAd ad) { logCallback( "onRewardedVideoStarted" ); }
 
     @Override
-    public void onRewardedVideoCompleted(final MaxAd ad) { logCallback(); }
+    public void onRewardedVideoCompleted(final MaxAd ad) { logCallback( "onRewardedVideoCompleted" ); }
 
     @Override
     public void onUserRewarded(final MaxAd ad, final MaxReward reward)
     {
         // Rewarded ad was displayed and user should receive the reward.
-        logCallback();
+        logCallback( "onUserRewarded" );
     }
 
     //endregion
@@ -132,15 +121,8 @@ public class RewardedAdActivity
     @Override
     public void onAdRevenuePaid(final MaxAd maxAd)
     {
-        logCallback();
-
-        AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-        adjustAdRevenue.setRevenue( maxAd.getRevenue(), "USD" );
-        adjustAdRevenue.setAdRevenueNetwork( maxAd.getNetworkName() );
-        adjustAdRevenue.setAdRevenueUnit( maxAd.getAdUnitId() );
-        adjustAdRevenue.setAdRevenuePlacement( maxAd.getPlacement() );
-
-        Adjust.trackAdRevenue( adjustAdRevenue );
+        // The ad holder forwards the revenue to the ad revenue pipeline.
+        logCallback( "onAdRevenuePaid" );
     }
 
     //endregion
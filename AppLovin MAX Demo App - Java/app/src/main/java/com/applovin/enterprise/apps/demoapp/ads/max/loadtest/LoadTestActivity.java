@@ -0,0 +1,177 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest;
+
+import android.os.Bundle;
+import android.util.Log;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import com.applovin.enterprise.apps.demoapp.R;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+/**
+ * An {@link android.app.Activity} used to load test AppLovin MAX ad units: it keeps a number of ad loads in flight for a given duration, and shows the
+ * load latency percentiles, fill rate and error codes. The recorded loads can be exported to a CSV file in the app's external files directory.
+ */
+public class LoadTestActivity
+        extends AppCompatActivity
+{
+    private static final String TAG = "LoadTestActivity";
+
+    private EditText        targetsEditText;
+    private EditText        concurrencyEditText;
+    private EditText        durationEditText;
+    private Button          startStopButton;
+    private Button          exportButton;
+    private TextView        statusTextView;
+    private TextView        resultsTextView;
+    private LoadTestRunner  runner;
+    private LoadTestResults lastResults;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState)
+    {
+        super.onCreate( savedInstanceState );
+        setContentView( R.layout.activity_load_test );
+        setTitle( R.string.activity_load_test );
+
+        targetsEditText = findViewById( R.id.targets_edit_text );
+        concurrencyEditText = findViewById( R.id.concurrency_edit_text );
+        durationEditText = findViewById( R.id.duration_edit_text );
+        startStopButton = findViewById( R.id.start_stop_button );
+        exportButton = findViewById( R.id.export_button );
+        statusTextView = findViewById( R.id.status_text_view );
+        resultsTextView = findViewById( R.id.results_text_view );
+    }
+
+    @Override
+    protected void onDestroy()
+    {
+        // Stop publishing progress to this screen, and destroy the ads that are still loading
+        if ( runner != null )
+        {
+            runner.cancel();
+            runner = null;
+        }
+
+        super.onDestroy();
+    }
+
+    public void onStartStopClicked(View view)
+    {
+        if ( runner != null )
+        {
+            runner.stop();
+            statusTextView.setText( "Stopping, waiting for loads in flight..." );
+            return;
+        }
+
+        List<LoadTestRunner.Target> targets;
+        int concurrency;
+        long durationSeconds;
+        try
+        {
+            targets = parseTargets( targetsEditText.getText().toString() );
+            concurrency = Integer.parseInt( concurrencyEditText.getText().toString() );
+            durationSeconds = Long.parseLong( durationEditText.getText().toString() );
+        }
+        catch ( IllegalArgumentException exception )
+        {
+            Toast.makeText( this, exception.getMessage(), Toast.LENGTH_LONG ).show();
+            return;
+        }
+
+        if ( targets.isEmpty() || concurrency <= 0 || durationSeconds <= 0 )
+        {
+            Toast.makeText( this, "Enter at least one ad unit, and a positive number of concurrent loads and duration", Toast.LENGTH_LONG ).show();
+            return;
+        }
+
+        runner = new LoadTestRunner( this, targets, concurrency, durationSeconds, new LoadTestRunner.Listener()
+        {
+            @Override
+            public void onProgress(final LoadTestResults results, final int loadsInFlight)
+            {
+                statusTextView.setText( String.format( Locale.US, "Running: %d loads completed, %d in flight", results.getLoadCount(), loadsInFlight ) );
+                resultsTextView.setText( results.getSummary() );
+            }
+
+            @Override
+            public void onFinished(final LoadTestResults results)
+            {
+                runner = null;
+                lastResults = results;
+
+                statusTextView.setText( String.format( Locale.US, "Finished: %d loads completed", results.getLoadCount() ) );
+                resultsTextView.setText( results.getSummary() );
+                startStopButton.setText( "Start" );
+                exportButton.setEnabled( results.getLoadCount() > 0 );
+            }
+        } );
+
+        startStopButton.setText( "Stop" );
+        exportButton.setEnabled( false );
+        runner.start();
+    }
+
+    public void onExportClicked(View view)
+    {
+        if ( lastResults == null ) return;
+
+        final List<LoadTestResults.Sample> samples = lastResults.getSamples();
+        final File directory = ( getExternalFilesDir( null ) != null ) ? getExternalFilesDir( null ) : getFilesDir();
+
+        new Thread( () -> {
+            String message;
+            try
+            {
+                message = "Exported to " + LoadTestResults.exportCsv( samples, directory ).getAbsolutePath();
+            }
+            catch ( IOException exception )
+            {
+                Log.e( TAG, "Unable to export load test results", exception );
+                message = "Unable to export load test results: " + exception.getMessage();
+            }
+
+            final String toastMessage = message;
+            runOnUiThread( () -> Toast.makeText( getApplicationContext(), toastMessage, Toast.LENGTH_LONG ).show() );
+        } ).start();
+    }
+
+    private static List<LoadTestRunner.Target> parseTargets(final String text)
+    {
+        List<LoadTestRunner.Target> targets = new ArrayList<>();
+        for ( String line : text.split( "\n" ) )
+        {
+            line = line.trim();
+            if ( line.isEmpty() ) continue;
+
+            String[] fields = line.split( "," );
+            if ( fields.length != 2 || fields[1].trim().isEmpty() )
+            {
+                throw new IllegalArgumentException( "Invalid line, expected FORMAT,AD_UNIT_ID: " + line );
+            }
+
+            // The SDK shares one rewarded ad per ad unit, and keeps its loaded ad until it is shown
+            if ( "REWARDED".equalsIgnoreCase( fields[0].trim() ) )
+            {
+                throw new IllegalArgumentException( "Rewarded ad units cannot be load tested, as their loaded ad is reused until shown: " + line );
+            }
+
+            // Throws an IllegalArgumentException for unknown formats
+            LoadTestRunner.Format format = LoadTestRunner.Format.valueOf( fields[0].trim().toUpperCase( Locale.US ) );
+            targets.add( new LoadTestRunner.Target( format, fields[1].trim() ) );
+        }
+
+        return targets;
+    }
+}
@@ -0,0 +1,181 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The ad loads recorded by a {@link LoadTestRunner}, with helpers to summarize them and export them to a CSV file.
+ * <p>
+ * Must only be used from the main thread, apart from {@link #exportCsv(List, File)}.
+ */
+class LoadTestResults
+{
+    private static final String CSV_HEADER = "started_at_millis,format,ad_unit_id,network,latency_millis,filled,error_code\n";
+
+    static class Sample
+    {
+        final long                  startedAtMillis;
+        final LoadTestRunner.Format format;
+        final String                adUnitId;
+        final String                networkName;
+        final long                  latencyMillis;
+        final boolean               isFilled;
+        final int                   errorCode;
+
+        Sample(final long startedAtMillis, final LoadTestRunner.Format format, final String adUnitId, final String networkName, final long latencyMillis, final boolean isFilled, final int errorCode)
+        {
+            this.startedAtMillis = startedAtMillis;
+            this.format = format;
+            this.adUnitId = adUnitId;
+            this.networkName = networkName;
+            this.latencyMillis = latencyMillis;
+            this.isFilled = isFilled;
+            this.errorCode = errorCode;
+        }
+    }
+
+    private final List<Sample> samples = new ArrayList<>();
+
+    void add(final Sample sample)
+    {
+        samples.add( sample );
+    }
+
+    int getLoadCount()
+    {
+        return samples.size();
+    }
+
+    /**
+     * @return A copy of the recorded loads, e.g. to export them from another thread.
+     */
+    List<Sample> getSamples()
+    {
+        return new ArrayList<>( samples );
+    }
+
+    /**
+     * @return A human-readable summary: overall and per network latency percentiles, and fill rate and error codes per ad unit.
+     */
+    String getSummary()
+    {
+        if ( samples.isEmpty() ) return "No loads recorded yet";
+
+        StringBuilder summary = new StringBuilder();
+        summary.append( formatLoads( "All loads", samples ) ).append( "\n\nFilled loads by network\n" );
+
+        Map<String, List<Sample>> samplesByNetwork = new TreeMap<>();
+        Map<String, List<Sample>> samplesByAdUnit = new TreeMap<>();
+        for ( Sample sample : samples )
+        {
+            if ( sample.isFilled )
+            {
+                getOrCreate( samplesByNetwork, ( sample.networkName != null ) ? sample.networkName : "Unknown" ).add( sample );
+            }
+
+            getOrCreate( samplesByAdUnit, sample.format + " " + sample.adUnitId ).add( sample );
+        }
+
+        for ( Map.Entry<String, List<Sample>> entry : samplesByNetwork.entrySet() )
+        {
+            summary.append( formatLoads( entry.getKey(), entry.getValue() ) ).append( '\n' );
+        }
+
+        summary.append( "\nLoads by ad unit\n" );
+        for ( Map.Entry<String, List<Sample>> entry : samplesByAdUnit.entrySet() )
+        {
+            summary.append( formatLoads( entry.getKey(), entry.getValue() ) ).append( '\n' );
+
+            Map<Integer, Integer> errorCounts = new TreeMap<>();
+            for ( Sample sample : entry.getValue() )
+            {
+                if ( !sample.isFilled )
+                {
+                    Integer errorCount = errorCounts.get( sample.errorCode );
+                    errorCounts.put( sample.errorCode, ( errorCount != null ) ? errorCount + 1 : 1 );
+                }
+            }
+
+            if ( !errorCounts.isEmpty() )
+            {
+                summary.append( "  errors (code=count): " ).append( errorCounts ).append( '\n' );
+            }
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Write the given loads to a new CSV file in the given directory. Performs I/O, so should not be called from the main thread.
+     *
+     * @return The file that was written.
+     */
+    static File exportCsv(final List<Sample> samples, final File directory) throws IOException
+    {
+        File file = new File( directory, "load_test_" + System.currentTimeMillis() + ".csv" );
+        try ( Writer writer = new FileWriter( file ) )
+        {
+            writer.write( CSV_HEADER );
+            for ( Sample sample : samples )
+            {
+                writer.write( sample.startedAtMillis + "," + sample.format + "," + sample.adUnitId + "," + ( ( sample.networkName != null ) ? sample.networkName : "" ) + ","
+                                      + sample.latencyMillis + "," + sample.isFilled + "," + ( sample.isFilled ? "" : sample.errorCode ) + "\n" );
+            }
+        }
+
+        return file;
+    }
+
+    private static String formatLoads(final String name, final List<Sample> samples)
+    {
+        long[] latencies = new long[samples.size()];
+        int filledCount = 0;
+        for ( int i = 0; i < samples.size(); i++ )
+        {
+            latencies[i] = samples.get( i ).latencyMillis;
+            if ( samples.get( i ).isFilled )
+            {
+                filledCount++;
+            }
+        }
+
+        Arrays.sort( latencies );
+
+        return String.format( Locale.US, "%s: %d loads, %.1f%% filled, p50 %dms, p90 %dms, p99 %dms",
+                              name,
+                              samples.size(),
+                              100f * filledCount / samples.size(),
+                              percentile( latencies, 50 ),
+                              percentile( latencies, 90 ),
+                              percentile( latencies, 99 ) );
+    }
+
+    /**
+     * @return The nearest-rank percentile of the given sorted values.
+     */
+    private static long percentile(final long[] sortedValues, final int percentile)
+    {
+        int rank = (int) Math.ceil( percentile / 100.0 * sortedValues.length );
+        return sortedValues[Math.max( 0, rank - 1 )];
+    }
+
+    private static List<Sample> getOrCreate(final Map<String, List<Sample>> samplesByKey, final String key)
+    {
+        List<Sample> samples = samplesByKey.get( key );
+        if ( samples == null )
+        {
+            samples = new ArrayList<>();
+            samplesByKey.put( key, samples );
+        }
+
+        return samples;
+    }
+}
@@ -0,0 +1,279 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest;
+
+import android.app.Activity;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdViewAdListener;
+import com.applovin.mediation.MaxError;
+import com.applovin.mediation.ads.MaxAdView;
+import com.applovin.mediation.ads.MaxInterstitialAd;
+import com.applovin.mediation.nativeAds.MaxNativeAdListener;
+import com.applovin.mediation.nativeAds.MaxNativeAdLoader;
+import com.applovin.mediation.nativeAds.MaxNativeAdView;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a fixed number of ad loads in flight for a given duration, cycling through the given ad units, and records the outcome of every load.
+ * <p>
+ * Every load uses a new ad object that is destroyed once the load completes. Rewarded ad units are not supported: the SDK shares one rewarded ad per ad
+ * unit, which keeps its loaded ad until it is shown, so repeated loads would only measure the cached ad. Must only be used from the main thread.
+ */
+class LoadTestRunner
+{
+    private static final long PROGRESS_INTERVAL_MILLIS = 500;
+
+    enum Format
+    {
+        INTERSTITIAL, BANNER, MREC, NATIVE
+    }
+
+    static class Target
+    {
+        final Format format;
+        final String adUnitId;
+
+        Target(final Format format, final String adUnitId)
+        {
+            this.format = format;
+            this.adUnitId = adUnitId;
+        }
+    }
+
+    interface Listener
+    {
+        void onProgress(LoadTestResults results, int loadsInFlight);
+
+        void onFinished(LoadTestResults results);
+    }
+
+    private final Activity        activity;
+    private final List<Target>    targets;
+    private final int             concurrency;
+    private final long            durationMillis;
+    private final Listener        listener;
+    private final LoadTestResults   results             = new LoadTestResults();
+    private final Handler           handler             = new Handler( Looper.getMainLooper() );
+    private final Set<LoadListener> loadsInFlight       = new HashSet<>();
+    private final Runnable          publishProgressTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            listener.onProgress( results, loadsInFlight.size() );
+            handler.postDelayed( this, PROGRESS_INTERVAL_MILLIS );
+        }
+    };
+
+    private long    deadlineMillis;
+    private int     nextTargetIndex;
+    private boolean isStopped;
+    private boolean isFinished;
+
+    LoadTestRunner(final Activity activity, final List<Target> targets, final int concurrency, final long durationSeconds, final Listener listener)
+    {
+        this.activity = activity;
+        this.targets = targets;
+        this.concurrency = concurrency;
+        this.durationMillis = TimeUnit.SECONDS.toMillis( durationSeconds );
+        this.listener = listener;
+    }
+
+    void start()
+    {
+        deadlineMillis = SystemClock.elapsedRealtime() + durationMillis;
+        for ( int i = 0; i < concurrency; i++ )
+        {
+            startNextLoad();
+        }
+
+        publishProgressTask.run();
+    }
+
+    /**
+     * Stop starting new loads. Loads that are already in flight are still recorded, and the listener is notified once they have all completed.
+     */
+    void stop()
+    {
+        isStopped = true;
+        finishIfDone();
+    }
+
+    /**
+     * Stop right away, e.g. when the screen running the load test is destroyed. Progress is no longer published, the ad objects of the loads in flight
+     * are destroyed without recording them, and the listener is not notified.
+     */
+    void cancel()
+    {
+        isStopped = true;
+        isFinished = true;
+        handler.removeCallbacksAndMessages( null );
+
+        for ( LoadListener loadListener : new ArrayList<>( loadsInFlight ) )
+        {
+            loadListener.cancel();
+        }
+
+        loadsInFlight.clear();
+    }
+
+    private void startNextLoad()
+    {
+        if ( isStopped || SystemClock.elapsedRealtime() >= deadlineMillis )
+        {
+            finishIfDone();
+            return;
+        }
+
+        Target target = targets.get( nextTargetIndex );
+        nextTargetIndex = ( nextTargetIndex + 1 ) % targets.size();
+
+        LoadListener loadListener = new LoadListener( target );
+        loadsInFlight.add( loadListener );
+        load( target, loadListener );
+    }
+
+    private void load(final Target target, final LoadListener loadListener)
+    {
+        switch ( target.format )
+        {
+            case INTERSTITIAL:
+                MaxInterstitialAd interstitialAd = new MaxInterstitialAd( target.adUnitId, activity );
+                loadListener.onComplete = interstitialAd::destroy;
+                interstitialAd.setListener( loadListener );
+                interstitialAd.loadAd();
+                break;
+            case BANNER:
+            case MREC:
+                MaxAdView adView = ( target.format == Format.MREC ) ? new MaxAdView( target.adUnitId, MaxAdFormat.MREC, activity ) : new MaxAdView( target.adUnitId, activity );
+                loadListener.onComplete = adView::destroy;
+                adView.setListener( loadListener );
+
+                // Only load a single ad, without refreshing it
+                adView.setExtraParameter( "allow_pause_auto_refresh_immediately", "true" );
+                adView.stopAutoRefresh();
+                adView.loadAd();
+                break;
+            case NATIVE:
+                MaxNativeAdLoader nativeAdLoader = new MaxNativeAdLoader( target.adUnitId, activity );
+                loadListener.onComplete = nativeAdLoader::destroy;
+                nativeAdLoader.setNativeAdListener( new MaxNativeAdListener()
+                {
+                    @Override
+                    public void onNativeAdLoaded(final MaxNativeAdView nativeAdView, final MaxAd ad)
+                    {
+                        loadListener.onAdLoaded( ad );
+                        nativeAdLoader.destroy( ad );
+                    }
+
+                    @Override
+                    public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
+                    {
+                        loadListener.onAdLoadFailed( adUnitId, error );
+                    }
+
+                    @Override
+                    public void onNativeAdClicked(final MaxAd ad) {}
+                } );
+                nativeAdLoader.loadAd();
+                break;
+        }
+    }
+
+    private void onLoadCompleted(final LoadListener loadListener)
+    {
+        loadsInFlight.remove( loadListener );
+        startNextLoad();
+    }
+
+    private void finishIfDone()
+    {
+        if ( !loadsInFlight.isEmpty() || isFinished ) return;
+
+        isFinished = true;
+        handler.removeCallbacksAndMessages( null );
+        listener.onFinished( results );
+    }
+
+    /**
+     * Records the outcome of a single load, then starts the next one.
+     */
+    private class LoadListener
+            implements MaxAdViewAdListener
+    {
+        private final Target target;
+        private final long   startedAtMillis         = System.currentTimeMillis();
+        private final long   startedAtRealtimeMillis = SystemClock.elapsedRealtime();
+
+        // Releases the ad object used for this load
+        private Runnable onComplete;
+        private boolean  isCompleted;
+
+        LoadListener(final Target target)
+        {
+            this.target = target;
+        }
+
+        @Override
+        public void onAdLoaded(final MaxAd ad)
+        {
+            complete( ad.getNetworkName(), true, 0 );
+        }
+
+        @Override
+        public void onAdLoadFailed(final String adUnitId, final MaxError error)
+        {
+            complete( null, false, error.getCode() );
+        }
+
+        private void complete(final String networkName, final boolean isFilled, final int errorCode)
+        {
+            // Ad views may report more than one load, e.g. if they refresh before being destroyed
+            if ( isCompleted ) return;
+
+            isCompleted = true;
+
+            long latencyMillis = SystemClock.elapsedRealtime() - startedAtRealtimeMillis;
+            results.add( new LoadTestResults.Sample( startedAtMillis, target.format, target.adUnitId, networkName, latencyMillis, isFilled, errorCode ) );
+
+            // Release the ad object once the SDK has returned from this callback
+            handler.post( () -> {
+                onComplete.run();
+                onLoadCompleted( this );
+            } );
+        }
+
+        private void cancel()
+        {
+            // Still in flight until the posted release has run, so release the ad object here
+            isCompleted = true;
+            onComplete.run();
+        }
+
+        @Override
+        public void onAdDisplayed(final MaxAd ad) {}
+
+        @Override
+        public void onAdHidden(final MaxAd ad) {}
+
+        @Override
+        public void onAdClicked(final MaxAd ad) {}
+
+        @Override
+        public void onAdDisplayFailed(final MaxAd ad, final MaxError error) {}
+
+        @Override
+        public void onAdExpanded(final MaxAd ad) {}
+
+        @Override
+        public void onAdCollapsed(final MaxAd ad) {}
+    }
+}
@@ -2,10 +2,9 @@ package com.applovin.enterprise.apps.demoapp.ads.max.mrecs;
 
 import android.os.Bundle;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdRevenuePipeline;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdViewRefreshController;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxAdRevenueListener;
@@ -24,7 +23,8 @@ public class LayoutEditorMrecAdActivity
         extends BaseAdActivity
         implements MaxAdViewAdListener, MaxAdRevenueListener
 {
-    private MaxAdView adView;
+    private MaxAdView               adView;
+    private AdViewRefreshController adViewRefreshController;
 
     @Override
     protected void onCreate(@Nullable final Bundle savedInstanceState)
@@ -42,6 +42,15 @@ public class LayoutEditorMrecAdActivity
 
         // Load the first ad.
         adView.loadAd();
+
+        // Pause auto-refresh while the ad is off-screen, covered or in the background, and resume it once the ad is visible again.
+        adViewRefreshController = new AdViewRefreshController( adView, this, isAutoRefreshing -> {
+            if ( getSupportActionBar() != null )
+            {
+                String state = isAutoRefreshing ? "Auto-refresh resumed" : "Auto-refresh paused";
+                getSupportActionBar().setSubtitle( state + ": " + adViewRefreshController.getStats() );
+            }
+        } );
     }
 
     @Override
@@ -55,28 +64,28 @@ public class LayoutEditorMrecAdActivity
     //region MAX Ad Listener
 
     @Override
-    public void onAdLoaded(final MaxAd ad) { logCallback(); }
+    public void onAdLoaded(final MaxAd ad) { logCallback( "onAdLoaded" ); }
 
     @Override
-    public void onAdLoadFailed(final String adUnitId, final MaxError maxError) { logCallback(); }
+    public void onAdLoadFailed(final String adUnitId, final MaxError maxError) { logCallback( "onAdLoadFailed" ); }
 
     @Override
-    public void onAdHidden(final MaxAd ad) { logCallback(); }
+    public void onAdHidden(final MaxAd ad) { logCallback( "onAdHidden" ); }
 
     @Override
-    public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError) { logCallback(); }
+    public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError) { logCallback( "onAdDisplayFailed" ); }
 
     @Override
-    public void onAdDisplayed(final MaxAd ad) { logCallback(); }
+    public void onAdDisplayed(final MaxAd ad) { logCallback( "onAdDisplayed" ); }
 
     @Override
-    public void onAdClicked(final MaxAd ad) { logCallback(); }
+    public void onAdClicked(final MaxAd ad) { logCallback( "onAdClicked" ); }
 
     @Override
-    public void onAdExpanded(final MaxAd ad) { logCallback(); }
+    public void onAdExpanded(final MaxAd ad) { logCallback( "onAdExpanded" ); }
 
     @Override
-    public void onAdCollapsed(final MaxAd ad) { logCallback(); }
+    public void onAdCollapsed(final MaxAd ad) { logCallback( "onAdCollapsed" ); }
 
     //endregion
 
@@ -85,15 +94,9 @@ public class LayoutEditorMrecAdActivity
     @Override
     public void onAdRevenuePaid(final MaxAd maxAd)
     {
-        logCallback();
-
-        AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-        adjustAdRevenue.setRevenue( maxAd.getRevenue(), "USD" );
-        adjustAdRevenue.setAdRevenueNetwork( maxAd.getNetworkName() );
-        adjustAdRevenue.setAdRevenueUnit( maxAd.getAdUnitId() );
-        adjustAdRevenue.setAdRevenuePlacement( maxAd.getPlacement() );
+        logCallback( "onAdRevenuePaid" );
 
-        Adjust.trackAdRevenue( adjustAdRevenue );
+        AdRevenuePipeline.getInstance( getApplicationContext() ).track( maxAd );
     }
 
     //endregion
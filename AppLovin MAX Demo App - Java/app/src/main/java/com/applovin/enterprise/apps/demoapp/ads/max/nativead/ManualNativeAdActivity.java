@@ -4,10 +4,8 @@ import android.os.Bundle;
 import android.view.View;
 import android.widget.FrameLayout;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdRevenuePipeline;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxError;
@@ -19,9 +17,13 @@ import com.applovin.mediation.nativeAds.MaxNativeAdViewBinder;
 public class ManualNativeAdActivity
         extends BaseAdActivity
 {
+    private static final int NATIVE_AD_VIEW_POOL_CAPACITY = 2;
+
     private MaxNativeAdLoader nativeAdLoader;
     private FrameLayout       nativeAdLayout;
+    private NativeAdViewPool  nativeAdViewPool;
     private MaxNativeAdView   nativeAdView;
+    private MaxNativeAdView   loadingNativeAdView;
 
     private MaxAd nativeAd;
 
@@ -44,51 +46,63 @@ public class ManualNativeAdActivity
                 .setOptionsContentViewGroupId( R.id.options_view )
                 .setCallToActionButtonId( R.id.cta_button )
                 .build();
-        nativeAdView = new MaxNativeAdView( binder, this );
+
+        // Reuse native ad views across reloads instead of inflating the binder layout for every ad
+        nativeAdViewPool = new NativeAdViewPool( this, binder, NATIVE_AD_VIEW_POOL_CAPACITY );
+        nativeAdViewPool.prewarm();
 
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
+            logCallback( "onAdRevenuePaid" );
 
-            AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-            adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
-            adjustAdRevenue.setAdRevenueNetwork( ad.getNetworkName() );
-            adjustAdRevenue.setAdRevenueUnit( ad.getAdUnitId() );
-            adjustAdRevenue.setAdRevenuePlacement( ad.getPlacement() );
-
-            Adjust.trackAdRevenue( adjustAdRevenue );
+            AdRevenuePipeline.getInstance( getApplicationContext() ).track( ad );
         } );
         nativeAdLoader.setNativeAdListener( new MaxNativeAdListener()
         {
             @Override
             public void onNativeAdLoaded(final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
-                // Cleanup any pre-existing native ad to prevent memory leaks.
+                // Cleanup any pre-existing native ad to prevent memory leaks, then return its view to the pool.
                 if ( nativeAd != null )
                 {
                     nativeAdLoader.destroy( nativeAd );
                 }
+                if ( ManualNativeAdActivity.this.nativeAdView != null )
+                {
+                    nativeAdViewPool.release( ManualNativeAdActivity.this.nativeAdView );
+                }
 
-                // Save ad for cleanup.
+                // Save ad and its view for cleanup.
                 nativeAd = ad;
+                ManualNativeAdActivity.this.nativeAdView = nativeAdView;
+                loadingNativeAdView = null;
 
                 // Add ad view to view.
                 nativeAdLayout.removeAllViews();
                 nativeAdLayout.addView( nativeAdView );
+
+                updateViewPoolStats();
             }
 
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
+
+                // Nothing was rendered into the view, so it can be reused right away.
+                if ( loadingNativeAdView != null )
+                {
+                    nativeAdViewPool.release( loadingNativeAdView );
+                    loadingNativeAdView = null;
+                }
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
@@ -111,6 +125,18 @@ public class ManualNativeAdActivity
 
     public void onShowAdClicked(View view)
     {
-        nativeAdLoader.loadAd( nativeAdView );
+        // Wait for the ad in flight to load before loading another one.
+        if ( loadingNativeAdView != null ) return;
+
+        loadingNativeAdView = nativeAdViewPool.acquire();
+        nativeAdLoader.loadAd( loadingNativeAdView );
+    }
+
+    private void updateViewPoolStats()
+    {
+        if ( getSupportActionBar() != null )
+        {
+            getSupportActionBar().setSubtitle( "View pool: " + nativeAdViewPool.getStats() );
+        }
     }
 }
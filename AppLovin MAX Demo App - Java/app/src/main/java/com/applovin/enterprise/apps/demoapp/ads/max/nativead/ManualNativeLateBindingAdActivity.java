@@ -5,10 +5,8 @@ import android.view.View;
 import android.widget.Button;
 import android.widget.FrameLayout;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdRevenuePipeline;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxError;
@@ -20,9 +18,13 @@ import com.applovin.mediation.nativeAds.MaxNativeAdViewBinder;
 public class ManualNativeLateBindingAdActivity
         extends BaseAdActivity
 {
+    private static final int NATIVE_AD_VIEW_POOL_CAPACITY = 2;
+
     private MaxNativeAdLoader nativeAdLoader;
     private FrameLayout       nativeAdLayout;
     private Button            showAdButton;
+    private NativeAdViewPool  nativeAdViewPool;
+    private MaxNativeAdView   nativeAdView;
 
     private MaxAd nativeAd;
 
@@ -37,30 +39,33 @@ public class ManualNativeLateBindingAdActivity
         showAdButton = findViewById( R.id.show_ad_button );
         setupCallbacksRecyclerView();
 
+        // Reuse native ad views across reloads instead of inflating the binder layout for every ad
+        nativeAdViewPool = new NativeAdViewPool( this, createNativeAdViewBinder(), NATIVE_AD_VIEW_POOL_CAPACITY );
+        nativeAdViewPool.prewarm();
+
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
-
-            AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-            adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
-            adjustAdRevenue.setAdRevenueNetwork( ad.getNetworkName() );
-            adjustAdRevenue.setAdRevenueUnit( ad.getAdUnitId() );
-            adjustAdRevenue.setAdRevenuePlacement( ad.getPlacement() );
+            logCallback( "onAdRevenuePaid" );
 
-            Adjust.trackAdRevenue( adjustAdRevenue );
+            AdRevenuePipeline.getInstance( getApplicationContext() ).track( ad );
         } );
         nativeAdLoader.setNativeAdListener( new MaxNativeAdListener()
         {
             @Override
             public void onNativeAdLoaded(final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
-                // Cleanup any pre-existing native ad to prevent memory leaks.
+                // Cleanup any pre-existing native ad to prevent memory leaks, then return its view to the pool.
                 if ( nativeAd != null )
                 {
                     nativeAdLoader.destroy( nativeAd );
                 }
+                if ( ManualNativeLateBindingAdActivity.this.nativeAdView != null )
+                {
+                    nativeAdViewPool.release( ManualNativeLateBindingAdActivity.this.nativeAdView );
+                    ManualNativeLateBindingAdActivity.this.nativeAdView = null;
+                }
 
                 // Save ad to be rendered later.
                 nativeAd = ad;
@@ -71,13 +76,13 @@ public class ManualNativeLateBindingAdActivity
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
@@ -107,16 +112,18 @@ public class ManualNativeLateBindingAdActivity
 
     public void onShowAdClicked(View view)
     {
-        MaxNativeAdView adView = createNativeAdView();
+        nativeAdView = nativeAdViewPool.acquire();
         // Render the ad separately
-        nativeAdLoader.render( adView, nativeAd );
-        nativeAdLayout.addView( adView );
+        nativeAdLoader.render( nativeAdView, nativeAd );
+        nativeAdLayout.addView( nativeAdView );
         showAdButton.setEnabled( false );
+
+        updateViewPoolStats();
     }
 
-    private MaxNativeAdView createNativeAdView()
+    private MaxNativeAdViewBinder createNativeAdViewBinder()
     {
-        MaxNativeAdViewBinder binder = new MaxNativeAdViewBinder.Builder( R.layout.native_custom_ad_view )
+        return new MaxNativeAdViewBinder.Builder( R.layout.native_custom_ad_view )
                 .setTitleTextViewId( R.id.title_text_view )
                 .setBodyTextViewId( R.id.body_text_view )
                 .setAdvertiserTextViewId( R.id.advertiser_textView )
@@ -125,6 +132,13 @@ public class ManualNativeLateBindingAdActivity
                 .setOptionsContentViewGroupId( R.id.options_view )
                 .setCallToActionButtonId( R.id.cta_button )
                 .build();
-        return new MaxNativeAdView( binder, this );
+    }
+
+    private void updateViewPoolStats()
+    {
+        if ( getSupportActionBar() != null )
+        {
+            getSupportActionBar().setSubtitle( "View pool: " + nativeAdViewPool.getStats() );
+        }
     }
 }
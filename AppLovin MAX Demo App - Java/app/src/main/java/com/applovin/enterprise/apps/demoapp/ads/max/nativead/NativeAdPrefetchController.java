@@ -0,0 +1,147 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead;
+
+import android.os.SystemClock;
+
+import com.applovin.mediation.nativeAds.adPlacer.MaxAdPlacer;
+import com.applovin.mediation.nativeAds.adPlacer.MaxRecyclerAdapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Adjusts how far ahead of the visible range {@link MaxRecyclerAdapter} loads native ads based on scroll velocity, and keeps count of the ads in memory vs.
+ * the ads currently on screen. The counters are reported only when one of them changes, not on every scrolled frame.
+ * <p>
+ * When the list is idle or scrolled slowly, ads are only requested {@code minLookAhead} items ahead of the visible range. The faster the user flings, the
+ * further ahead ads are requested (up to {@code maxLookAhead} items), so that ads are ready by the time their slot scrolls into view.
+ */
+class NativeAdPrefetchController
+        extends RecyclerView.OnScrollListener
+{
+    // How many seconds of scrolling at the current velocity to prefetch ads for
+    private static final float PREFETCH_WINDOW_SECONDS = 1.5f;
+    // Weight of the latest sample when smoothing the scroll velocity
+    private static final float VELOCITY_SMOOTHING      = 0.3f;
+
+    interface Listener
+    {
+        void onCountersChanged(int adsInMemory, int adsDisplayed, int lookAhead);
+    }
+
+    private final MaxRecyclerAdapter  adAdapter;
+    private final LinearLayoutManager layoutManager;
+    private final int                 minLookAhead;
+    private final int                 maxLookAhead;
+    private final Listener            listener;
+
+    private int   lookAhead;
+    private int   adsInMemory;
+    private int   reportedAdsInMemory  = -1;
+    private int   reportedAdsDisplayed = -1;
+    private int   reportedLookAhead    = -1;
+    private int   lastFirstVisiblePosition = RecyclerView.NO_POSITION;
+    private long  lastScrollTimeMillis;
+    private float itemsPerSecond;
+
+    NativeAdPrefetchController(final MaxRecyclerAdapter adAdapter, final LinearLayoutManager layoutManager, final int minLookAhead, final int maxLookAhead, final Listener listener)
+    {
+        this.adAdapter = adAdapter;
+        this.layoutManager = layoutManager;
+        this.minLookAhead = minLookAhead;
+        this.maxLookAhead = maxLookAhead;
+        this.listener = listener;
+
+        setLookAhead( minLookAhead );
+    }
+
+    /**
+     * Call from {@link MaxAdPlacer.Listener#onAdLoaded(int)}.
+     */
+    void onAdLoaded()
+    {
+        adsInMemory++;
+        notifyCountersChanged();
+    }
+
+    /**
+     * Call from {@link MaxAdPlacer.Listener#onAdRemoved(int)}.
+     */
+    void onAdRemoved()
+    {
+        adsInMemory = Math.max( 0, adsInMemory - 1 );
+        notifyCountersChanged();
+    }
+
+    @Override
+    public void onScrolled(@NonNull final RecyclerView recyclerView, final int dx, final int dy)
+    {
+        int firstVisiblePosition = layoutManager.findFirstVisibleItemPosition();
+        long nowMillis = SystemClock.uptimeMillis();
+
+        if ( lastFirstVisiblePosition != RecyclerView.NO_POSITION && nowMillis > lastScrollTimeMillis )
+        {
+            float latestItemsPerSecond = Math.abs( firstVisiblePosition - lastFirstVisiblePosition ) * 1000f / ( nowMillis - lastScrollTimeMillis );
+            itemsPerSecond += VELOCITY_SMOOTHING * ( latestItemsPerSecond - itemsPerSecond );
+        }
+
+        lastFirstVisiblePosition = firstVisiblePosition;
+        lastScrollTimeMillis = nowMillis;
+
+        setLookAhead( minLookAhead + Math.round( itemsPerSecond * PREFETCH_WINDOW_SECONDS ) );
+        notifyCountersChanged();
+    }
+
+    @Override
+    public void onScrollStateChanged(@NonNull final RecyclerView recyclerView, final int newState)
+    {
+        if ( newState == RecyclerView.SCROLL_STATE_IDLE )
+        {
+            itemsPerSecond = 0;
+            lastFirstVisiblePosition = RecyclerView.NO_POSITION;
+
+            setLookAhead( minLookAhead );
+            notifyCountersChanged();
+        }
+    }
+
+    private void setLookAhead(final int requestedLookAhead)
+    {
+        int newLookAhead = Math.max( minLookAhead, Math.min( maxLookAhead, requestedLookAhead ) );
+        if ( newLookAhead == lookAhead ) return;
+
+        lookAhead = newLookAhead;
+        adAdapter.setLookAhead( lookAhead );
+    }
+
+    private void notifyCountersChanged()
+    {
+        int adsDisplayed = countDisplayedAds();
+        if ( adsInMemory == reportedAdsInMemory && adsDisplayed == reportedAdsDisplayed && lookAhead == reportedLookAhead ) return;
+
+        reportedAdsInMemory = adsInMemory;
+        reportedAdsDisplayed = adsDisplayed;
+        reportedLookAhead = lookAhead;
+
+        listener.onCountersChanged( adsInMemory, adsDisplayed, lookAhead );
+    }
+
+    private int countDisplayedAds()
+    {
+        int firstVisiblePosition = layoutManager.findFirstVisibleItemPosition();
+        int lastVisiblePosition = layoutManager.findLastVisibleItemPosition();
+        if ( firstVisiblePosition == RecyclerView.NO_POSITION ) return 0;
+
+        MaxAdPlacer adPlacer = adAdapter.getAdPlacer();
+        int adsDisplayed = 0;
+        for ( int position = firstVisiblePosition; position <= lastVisiblePosition; position++ )
+        {
+            if ( adPlacer.isFilledPosition( position ) )
+            {
+                adsDisplayed++;
+            }
+        }
+
+        return adsDisplayed;
+    }
+}
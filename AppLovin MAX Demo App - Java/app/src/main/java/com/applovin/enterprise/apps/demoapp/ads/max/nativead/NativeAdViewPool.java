@@ -0,0 +1,148 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.applovin.mediation.nativeAds.MaxNativeAdView;
+import com.applovin.mediation.nativeAds.MaxNativeAdViewBinder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of {@link MaxNativeAdView}s for a single {@link MaxNativeAdViewBinder} layout, so that reloading native ads reuses views instead of inflating
+ * the binder layout every time.
+ * <p>
+ * Views are pre-created while the main thread is idle. Hand out a view with {@link #acquire()}, and return it with {@link #release(MaxNativeAdView)} once
+ * the native ad rendered into it has been destroyed. Reused views have their asset views cleared, so an ad missing an asset never shows the previous
+ * ad's. The pool holds views of the given activity, so it must not outlive it. Must only be used from the
+ * main thread.
+ */
+class NativeAdViewPool
+{
+    private final Activity               activity;
+    private final MaxNativeAdViewBinder  binder;
+    private final int                    capacity;
+    private final Deque<MaxNativeAdView> pooledViews = new ArrayDeque<>();
+
+    private int  createdViewCount;
+    private int  reusedViewCount;
+    private long totalInflationNanos;
+
+    NativeAdViewPool(final Activity activity, final MaxNativeAdViewBinder binder, final int capacity)
+    {
+        this.activity = activity;
+        this.binder = binder;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Create views until the pool is full, one per idle pass of the main thread so that pre-creating them does not cause dropped frames.
+     */
+    void prewarm()
+    {
+        Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+        {
+            @Override
+            public boolean queueIdle()
+            {
+                if ( activity.isFinishing() || pooledViews.size() >= capacity ) return false;
+
+                pooledViews.push( createView() );
+                return pooledViews.size() < capacity;
+            }
+        } );
+    }
+
+    /**
+     * @return A view from the pool with its asset views cleared, or a newly inflated one if the pool is empty.
+     */
+    MaxNativeAdView acquire()
+    {
+        MaxNativeAdView view = pooledViews.poll();
+        if ( view != null )
+        {
+            resetAssetViews( view );
+            reusedViewCount++;
+            return view;
+        }
+
+        return createView();
+    }
+
+    /**
+     * Return a view to the pool. Must only be called once the native ad rendered into the view has been destroyed.
+     */
+    void release(final MaxNativeAdView view)
+    {
+        if ( view.getParent() instanceof ViewGroup )
+        {
+            ( (ViewGroup) view.getParent() ).removeView( view );
+        }
+
+        if ( pooledViews.size() < capacity && !pooledViews.contains( view ) )
+        {
+            pooledViews.push( view );
+        }
+    }
+
+    /**
+     * @return A summary of the views created vs. reused, and the inflation time saved by reusing views.
+     */
+    String getStats()
+    {
+        long averageInflationNanos = ( createdViewCount > 0 ) ? totalInflationNanos / createdViewCount : 0;
+        return String.format( Locale.US, "%d views inflated (avg %.2fms), %d reused (~%.2fms saved)",
+                              createdViewCount,
+                              averageInflationNanos / (float) TimeUnit.MILLISECONDS.toNanos( 1 ),
+                              reusedViewCount,
+                              reusedViewCount * averageInflationNanos / (float) TimeUnit.MILLISECONDS.toNanos( 1 ) );
+    }
+
+    private static void resetAssetViews(final MaxNativeAdView view)
+    {
+        clearText( view.getTitleTextView() );
+        clearText( view.getAdvertiserTextView() );
+        clearText( view.getBodyTextView() );
+        clearText( view.getCallToActionButton() );
+
+        if ( view.getIconImageView() != null )
+        {
+            view.getIconImageView().setImageDrawable( null );
+        }
+
+        clearChildren( view.getMediaContentViewGroup() );
+        clearChildren( view.getOptionsContentViewGroup() );
+    }
+
+    private static void clearText(final TextView textView)
+    {
+        if ( textView != null )
+        {
+            textView.setText( null );
+        }
+    }
+
+    private static void clearChildren(final ViewGroup viewGroup)
+    {
+        if ( viewGroup != null )
+        {
+            viewGroup.removeAllViews();
+        }
+    }
+
+    private MaxNativeAdView createView()
+    {
+        long startNanos = System.nanoTime();
+        MaxNativeAdView view = new MaxNativeAdView( binder, activity );
+        totalInflationNanos += System.nanoTime() - startNanos;
+        createdViewCount++;
+
+        return view;
+    }
+}
@@ -0,0 +1,66 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A large, read-only list of sample items that is materialized one page at a time, like a feed backed by a paged API would be.
+ * <p>
+ * Only the most recently accessed pages are kept in memory, so the size of the list does not affect the memory used by the demo.
+ */
+class PagedSampleDataSource
+        extends AbstractList<String>
+{
+    private static final int PAGE_SIZE        = 50;
+    private static final int MAX_CACHED_PAGES = 8;
+
+    private final int                    size;
+    private final Map<Integer, String[]> cachedPages = new LinkedHashMap<Integer, String[]>( MAX_CACHED_PAGES, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, String[]> eldest)
+        {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    PagedSampleDataSource(final int size)
+    {
+        this.size = size;
+    }
+
+    @Override
+    public String get(final int index)
+    {
+        if ( index < 0 || index >= size ) throw new IndexOutOfBoundsException( "Index: " + index + ", size: " + size );
+
+        int pageIndex = index / PAGE_SIZE;
+        String[] page = cachedPages.get( pageIndex );
+        if ( page == null )
+        {
+            page = loadPage( pageIndex );
+            cachedPages.put( pageIndex, page );
+        }
+
+        return page[index % PAGE_SIZE];
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    private String[] loadPage(final int pageIndex)
+    {
+        int firstIndex = pageIndex * PAGE_SIZE;
+        String[] page = new String[Math.min( PAGE_SIZE, size - firstIndex )];
+        for ( int i = 0; i < page.length; i++ )
+        {
+            page[i] = "Item " + ( firstIndex + i + 1 );
+        }
+
+        return page;
+    }
+}
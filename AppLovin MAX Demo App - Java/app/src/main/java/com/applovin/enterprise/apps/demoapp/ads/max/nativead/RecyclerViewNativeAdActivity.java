@@ -18,15 +18,21 @@ import com.applovin.mediation.nativeAds.adPlacer.MaxAdPlacer;
 import com.applovin.mediation.nativeAds.adPlacer.MaxAdPlacerSettings;
 import com.applovin.mediation.nativeAds.adPlacer.MaxRecyclerAdapter;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 public class RecyclerViewNativeAdActivity
         extends AppCompatActivity
 {
-    private final ArrayList<String>  sampleData = new ArrayList<>( Arrays.asList( "ABCDEFGHIJKLMNOPQRSTUVWXYZ".split( "(?!^)" ) ) );
-    private       MaxRecyclerAdapter adAdapter;
+    // Emulate a long feed to show how ads are placed and prefetched while scrolling through it
+    private static final int SAMPLE_DATA_SIZE = 100_000;
+    private static final int MIN_LOOK_AHEAD   = 4;
+    private static final int MAX_LOOK_AHEAD   = 24;
+    // Ads scrolled far behind the visible range are not released, so bound how many ads are placed in the feed
+    private static final int MAX_AD_COUNT     = 64;
+
+    private final List<String>               sampleData = new PagedSampleDataSource( SAMPLE_DATA_SIZE );
+    private       MaxRecyclerAdapter         adAdapter;
+    private       NativeAdPrefetchController prefetchController;
 
     @Override
     protected void onCreate(Bundle savedInstanceState)
@@ -42,6 +48,7 @@ public class RecyclerViewNativeAdActivity
         settings.addFixedPosition( 2 );
         settings.addFixedPosition( 8 );
         settings.setRepeatingInterval( 6 );
+        settings.setMaxAdCount( MAX_AD_COUNT );
 
         // If using custom views, you must also set the nativeAdViewBinder on the adapter
 
@@ -49,10 +56,16 @@ public class RecyclerViewNativeAdActivity
         adAdapter.setListener( new MaxAdPlacer.Listener()
         {
             @Override
-            public void onAdLoaded(final int position) {}
+            public void onAdLoaded(final int position)
+            {
+                prefetchController.onAdLoaded();
+            }
 
             @Override
-            public void onAdRemoved(final int position) {}
+            public void onAdRemoved(final int position)
+            {
+                prefetchController.onAdRemoved();
+            }
 
             @Override
             public void onAdClicked(final MaxAd ad) {}
@@ -62,9 +75,17 @@ public class RecyclerViewNativeAdActivity
         } );
 
         // Configure recycler view
+        LinearLayoutManager layoutManager = new LinearLayoutManager( this );
         RecyclerView recyclerView = findViewById( R.id.recycler_view );
         recyclerView.setAdapter( adAdapter );
-        recyclerView.setLayoutManager( new LinearLayoutManager( this ) );
+        recyclerView.setLayoutManager( layoutManager );
+
+        // Request ads further ahead of the visible range the faster the list is scrolled
+        TextView countersTextView = findViewById( R.id.ad_counters_text_view );
+        prefetchController = new NativeAdPrefetchController( adAdapter, layoutManager, MIN_LOOK_AHEAD, MAX_LOOK_AHEAD, (adsInMemory, adsDisplayed, lookAhead) -> {
+            countersTextView.setText( getString( R.string.native_ad_counters, adsInMemory, adsDisplayed, lookAhead ) );
+        } );
+        recyclerView.addOnScrollListener( prefetchController );
 
         adAdapter.loadAds();
     }
@@ -4,10 +4,8 @@ import android.os.Bundle;
 import android.view.View;
 import android.widget.FrameLayout;
 
-import com.adjust.sdk.Adjust;
-import com.adjust.sdk.AdjustAdRevenue;
-import com.adjust.sdk.AdjustConfig;
 import com.applovin.enterprise.apps.demoapp.R;
+import com.applovin.enterprise.apps.demoapp.ads.max.AdRevenuePipeline;
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity;
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxError;
@@ -36,22 +34,16 @@ public class TemplateNativeAdActivity
 
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
+            logCallback( "onAdRevenuePaid" );
 
-            AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
-            adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
-            adjustAdRevenue.setAdRevenueNetwork( ad.getNetworkName() );
-            adjustAdRevenue.setAdRevenueUnit( ad.getAdUnitId() );
-            adjustAdRevenue.setAdRevenuePlacement( ad.getPlacement() );
-
-            Adjust.trackAdRevenue( adjustAdRevenue );
+            AdRevenuePipeline.getInstance( getApplicationContext() ).track( ad );
         } );
         nativeAdLoader.setNativeAdListener( new MaxNativeAdListener()
         {
             @Override
             public void onNativeAdLoaded(final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if ( nativeAd != null )
@@ -70,13 +62,13 @@ public class TemplateNativeAdActivity
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
@@ -1,9 +1,8 @@
 package com.applovin.enterprise.apps.demoapp.ui;
 
-import com.applovin.enterprise.apps.demoapp.R;
+import android.view.Choreographer;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.applovin.enterprise.apps.demoapp.R;
 
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.DividerItemDecoration;
@@ -18,15 +17,28 @@ import androidx.recyclerview.widget.RecyclerView;
 public abstract class BaseAdActivity
         extends AppCompatActivity
 {
-    private       CallbacksRecyclerViewAdapter callbacksAdapter;
-    private final List<String>                 callbacks = new ArrayList<>();
+    private static final int CALLBACK_LOG_CAPACITY = 200;
+
+    private final CallbackLog                 callbackLog                   = new CallbackLog( CALLBACK_LOG_CAPACITY );
+    private final Choreographer.FrameCallback publishCallbacksFrameCallback = new Choreographer.FrameCallback()
+    {
+        @Override
+        public void doFrame(final long frameTimeNanos)
+        {
+            publishCallbacks();
+        }
+    };
+
+    private CallbacksRecyclerViewAdapter callbacksAdapter;
+    private boolean                      isPublishScheduled;
+    private boolean                      hasPendingEvictions;
 
     /**
      * Setup callbacks RecyclerView adapter and appearance.
      */
     protected void setupCallbacksRecyclerView()
     {
-        callbacksAdapter = new CallbacksRecyclerViewAdapter( callbacks, this );
+        callbacksAdapter = new CallbacksRecyclerViewAdapter( callbackLog, this );
         LinearLayoutManager manager = new LinearLayoutManager( this );
         DividerItemDecoration decoration = new DividerItemDecoration( this, manager.getOrientation() );
 
@@ -37,23 +49,42 @@ public abstract class BaseAdActivity
         callbacksRecyclerView.addItemDecoration( decoration );
     }
 
+    @Override
+    protected void onDestroy()
+    {
+        Choreographer.getInstance().removeFrameCallback( publishCallbacksFrameCallback );
+
+        super.onDestroy();
+    }
+
     /**
-     * Log ad callbacks in the RecyclerView.
-     * Uses the name of the function that calls this one in the log.
+     * Log ad callbacks in the RecyclerView. Callbacks are published to the RecyclerView at most once per frame.
+     *
+     * @param callbackName The name of the callback, e.g. "onAdLoaded".
      */
-    protected void logCallback()
+    protected void logCallback(final String callbackName)
     {
-        String callbackName = new Throwable().getStackTrace()[1].getMethodName();
-        callbacks.add( callbackName );
+        if ( callbackLog.add( callbackName, System.currentTimeMillis() ) )
+        {
+            hasPendingEvictions = true;
+        }
 
-        callbacksAdapter.notifyItemInserted( callbacks.size() - 1 );
+        if ( !isPublishScheduled )
+        {
+            isPublishScheduled = true;
+            Choreographer.getInstance().postFrameCallback( publishCallbacksFrameCallback );
+        }
     }
 
-    protected void logAnonymousCallback()
+    private void publishCallbacks()
     {
-        String callbackName = new Throwable().getStackTrace()[2].getMethodName();
-        callbacks.add( callbackName );
+        isPublishScheduled = false;
+
+        if ( callbacksAdapter != null )
+        {
+            callbacksAdapter.publish( hasPendingEvictions );
+        }
 
-        callbacksAdapter.notifyItemInserted( callbacks.size() - 1 );
+        hasPendingEvictions = false;
     }
 }
@@ -0,0 +1,56 @@
+package com.applovin.enterprise.apps.demoapp.ui;
+
+/**
+ * Fixed-capacity ring buffer of ad callback names and the time they were received. Once full, the oldest entry is overwritten.
+ * Must only be accessed from the main thread.
+ */
+class CallbackLog
+{
+    private final String[] names;
+    private final long[]   timestamps;
+
+    private int start;
+    private int size;
+
+    CallbackLog(final int capacity)
+    {
+        this.names = new String[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    /**
+     * Record a callback.
+     *
+     * @return {@code true} if the oldest entry was evicted to make room.
+     */
+    boolean add(final String name, final long timestampMillis)
+    {
+        final int index = ( start + size ) % names.length;
+        names[index] = name;
+        timestamps[index] = timestampMillis;
+
+        if ( size < names.length )
+        {
+            size++;
+            return false;
+        }
+
+        start = ( start + 1 ) % names.length;
+        return true;
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    String getName(final int position)
+    {
+        return names[( start + position ) % names.length];
+    }
+
+    long getTimestamp(final int position)
+    {
+        return timestamps[( start + position ) % timestamps.length];
+    }
+}
@@ -11,7 +11,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.applovin.enterprise.apps.demoapp.R;
 
-import java.util.List;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
 
 /**
  * {@link RecyclerView.Adapter} for the callback RecyclerView in ad activities.
@@ -21,15 +23,39 @@ import java.util.List;
 public class CallbacksRecyclerViewAdapter
         extends RecyclerView.Adapter<CallbacksRecyclerViewAdapter.ViewHolder>
 {
-    private final List<String>   callbacks;
-    private final LayoutInflater layoutInflater;
+    private final CallbackLog      callbackLog;
+    private final LayoutInflater   layoutInflater;
+    private final SimpleDateFormat timestampFormat = new SimpleDateFormat( "HH:mm:ss.SSS", Locale.US );
 
-    CallbacksRecyclerViewAdapter(final List<String> callbacks, final Context context)
+    // Only callbacks that have been published are visible to the RecyclerView
+    private int publishedCount;
+
+    CallbacksRecyclerViewAdapter(final CallbackLog callbackLog, final Context context)
     {
-        this.callbacks = callbacks;
+        this.callbackLog = callbackLog;
         this.layoutInflater = LayoutInflater.from( context );
     }
 
+    /**
+     * Notify the RecyclerView of all callbacks logged since the last publish.
+     *
+     * @param evicted Whether any of the previously published callbacks were evicted from the log.
+     */
+    void publish(final boolean evicted)
+    {
+        final int previousCount = publishedCount;
+        publishedCount = callbackLog.size();
+
+        if ( evicted )
+        {
+            notifyDataSetChanged();
+        }
+        else if ( publishedCount > previousCount )
+        {
+            notifyItemRangeInserted( previousCount, publishedCount - previousCount );
+        }
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent, final int viewType)
@@ -40,13 +66,14 @@ public class CallbacksRecyclerViewAdapter
     @Override
     public void onBindViewHolder(@NonNull final ViewHolder holder, final int position)
     {
-        holder.callbackName.setText( callbacks.get( position ) );
+        String timestamp = timestampFormat.format( new Date( callbackLog.getTimestamp( position ) ) );
+        holder.callbackName.setText( timestamp + "  " + callbackLog.getName( position ) );
     }
 
     @Override
     public int getItemCount()
     {
-        return callbacks.size();
+        return publishedCount;
     }
 
     class ViewHolder
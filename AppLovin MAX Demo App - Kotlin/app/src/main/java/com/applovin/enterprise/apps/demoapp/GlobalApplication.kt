@@ -6,6 +6,7 @@ import android.os.Bundle
 import com.adjust.sdk.Adjust
 import com.adjust.sdk.AdjustConfig
 import com.adjust.sdk.LogLevel
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
 import com.applovin.sdk.AppLovinMediationProvider
 import com.applovin.sdk.AppLovinSdk
 
@@ -15,19 +16,59 @@ class GlobalApplication : Application() {
     override fun onCreate() {
         super.onCreate()
 
-        // Initialize the AppLovin SDK
-        AppLovinSdk.getInstance(this).mediationProvider = AppLovinMediationProvider.MAX
-        AppLovinSdk.getInstance(this).initializeSdk {
-            // AppLovin SDK is initialized, start loading ads now or later if ad gate is reached
+        val startupPipeline = StartupPipeline()
+                .addStep("AppLovin SDK") { onComplete ->
+                    // Initialize the AppLovin SDK
+                    AppLovinSdk.getInstance(this).mediationProvider = AppLovinMediationProvider.MAX
+                    AppLovinSdk.getInstance(this).initializeSdk {
+                        // AppLovin SDK is initialized, start loading ads now or later if ad gate is reached
+                        onComplete()
+                    }
+                }
+                .addStep("Adjust SDK") { onComplete ->
+                    // Initialize Adjust SDK
+                    val config = AdjustConfig(this, "{YourAppToken}", AdjustConfig.ENVIRONMENT_SANDBOX)
+                    Adjust.onCreate(config)
 
-            // Initialize Adjust SDK
-            val config = AdjustConfig(this, "{YourAppToken}", AdjustConfig.ENVIRONMENT_SANDBOX)
-            Adjust.onCreate(config)
+                    registerActivityLifecycleCallbacks(AdjustLifecycleCallbacks())
+                    onComplete()
+                }
+                .addStep("Ad revenue pipeline") { onComplete ->
+                    AdRevenuePipeline.getInstance(this).start()
+                    onComplete()
+                }
 
-            registerActivityLifecycleCallbacks(AdjustLifecycleCallbacks())
+        if (DEFER_AD_SDK_INIT_UNTIL_FIRST_FRAME) {
+            registerActivityLifecycleCallbacks(FirstFrameCallbacks(startupPipeline))
+        } else {
+            startupPipeline.start()
         }
     }
 
+    /**
+     * Starts the startup pipeline once the first activity has drawn its first frame.
+     */
+    private inner class FirstFrameCallbacks(private val startupPipeline: StartupPipeline) : ActivityLifecycleCallbacks {
+        override fun onActivityCreated(activity: Activity, bundle: Bundle?) {
+            unregisterActivityLifecycleCallbacks(this)
+
+            // Runnables posted to a view that is not attached yet run right after its first traversal, i.e. once the first frame has been drawn
+            activity.window.decorView.post { startupPipeline.start() }
+        }
+
+        override fun onActivityStarted(activity: Activity) {}
+
+        override fun onActivityResumed(activity: Activity) {}
+
+        override fun onActivityPaused(activity: Activity) {}
+
+        override fun onActivityStopped(activity: Activity) {}
+
+        override fun onActivitySaveInstanceState(activity: Activity, bundle: Bundle) {}
+
+        override fun onActivityDestroyed(activity: Activity) {}
+    }
+
     private class AdjustLifecycleCallbacks : ActivityLifecycleCallbacks {
         override fun onActivityCreated(activity: Activity, bundle: Bundle?) {}
 
@@ -47,4 +88,9 @@ class GlobalApplication : Application() {
 
         override fun onActivityDestroyed(activity: Activity) {}
     }
-}
\ No newline at end of file
+
+    companion object {
+        // Whether to initialize the ad SDKs only once the first screen has been drawn, so they do not delay it
+        private const val DEFER_AD_SDK_INIT_UNTIL_FIRST_FRAME = true
+    }
+}
@@ -21,6 +21,7 @@ import com.applovin.enterprise.apps.demoapp.ads.applovin.leaders.LeaderDemoMenuA
 import com.applovin.enterprise.apps.demoapp.ads.applovin.mrecs.MRecDemoMenuActivity
 import com.applovin.enterprise.apps.demoapp.ads.applovin.rewarded.RewardedVideosDemoMenuActivity
 import com.applovin.enterprise.apps.demoapp.ads.max.banner.BannerAdActivity
+import com.applovin.enterprise.apps.demoapp.ads.max.loadtest.LoadTestActivity
 import com.applovin.enterprise.apps.demoapp.ads.max.mrecs.MrecAdActivity
 import com.applovin.enterprise.apps.demoapp.ads.max.nativead.NativeAdActivity
 import com.applovin.enterprise.apps.demoapp.data.main.DemoMenuItem
@@ -68,6 +69,7 @@ class MainActivity : AppCompatActivity(),
         items.add(DemoMenuItem("Banners", Intent(this, BannerAdActivity::class.java)))
         items.add(DemoMenuItem("MRECs", Intent(this, MrecAdActivity::class.java)))
         items.add(DemoMenuItem("Native Ads", Intent(this, NativeAdActivity::class.java)))
+        items.add(DemoMenuItem("Load Test", Intent(this, LoadTestActivity::class.java)))
         items.add(DemoMenuItem("Launch Mediation Debugger", Runnable({ AppLovinSdk.getInstance(applicationContext).showMediationDebugger() })))
         items.add(SectionHeader("SUPPORT"))
         items.add(DemoMenuItem("Visit our Support Site", Intent(Intent.ACTION_VIEW, Uri.parse("https://support.applovin.com/support/home"))))
@@ -0,0 +1,82 @@
+package com.applovin.enterprise.apps.demoapp
+
+import android.os.SystemClock
+import android.util.Log
+import androidx.core.os.TraceCompat
+
+/**
+ * Runs the app's startup steps in order and records how long each one takes, so the cost of every SDK initialized at startup can be measured.
+ * <p>
+ * A step may complete asynchronously (e.g. when it waits on an SDK initialization callback) - the next step only starts once it calls its completion
+ * callback. The main thread work of every step is also wrapped in a trace section of the same name, so it shows up in system traces. Must only be
+ * used from the main thread.
+ */
+class StartupPipeline
+{
+    private val steps = mutableListOf<Pair<String, (onComplete: () -> Unit) -> Unit>>()
+    private val createdAtMillis = SystemClock.uptimeMillis()
+
+    private var currentStepIndex = -1
+    private var startedAtMillis = 0L
+    private var currentStepStartedAtMillis = 0L
+
+    /**
+     * Add a step to run after all previously added steps have completed.
+     */
+    fun addStep(name: String, step: (onComplete: () -> Unit) -> Unit): StartupPipeline
+    {
+        steps.add(name to step)
+        return this
+    }
+
+    /**
+     * Start running the steps. Does nothing if the pipeline has already been started.
+     */
+    fun start()
+    {
+        if (currentStepIndex >= 0) return
+
+        startedAtMillis = SystemClock.uptimeMillis()
+        Log.d(TAG, "Started ${startedAtMillis - createdAtMillis}ms after Application.onCreate()")
+
+        runStep(0)
+    }
+
+    private fun runStep(index: Int)
+    {
+        currentStepIndex = index
+
+        if (index >= steps.size)
+        {
+            Log.d(TAG, "Completed all steps in ${SystemClock.uptimeMillis() - startedAtMillis}ms")
+            return
+        }
+
+        currentStepStartedAtMillis = SystemClock.uptimeMillis()
+
+        val (name, step) = steps[index]
+        TraceCompat.beginSection(name)
+        try
+        {
+            step { completeStep(index) }
+        }
+        finally
+        {
+            TraceCompat.endSection()
+        }
+    }
+
+    private fun completeStep(index: Int)
+    {
+        // Ignore steps that report completion more than once
+        if (index != currentStepIndex) return
+
+        Log.d(TAG, "${steps[index].first} took ${SystemClock.uptimeMillis() - currentStepStartedAtMillis}ms")
+        runStep(index + 1)
+    }
+
+    companion object
+    {
+        private const val TAG = "StartupPipeline"
+    }
+}
@@ -45,13 +45,13 @@ class BannerLayoutEditorActivity : BaseAdActivity(),
 
     override fun adReceived(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adReceived")
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
     }
 
     //endregion
@@ -60,12 +60,12 @@ class BannerLayoutEditorActivity : BaseAdActivity(),
 
     override fun adDisplayed(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -74,22 +74,22 @@ class BannerLayoutEditorActivity : BaseAdActivity(),
 
     override fun adOpenedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adOpenedFullscreen")
     }
 
     override fun adClosedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adClosedFullscreen")
     }
 
     override fun adLeftApplication(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adLeftApplication")
     }
 
     override fun adFailedToDisplay(ad: AppLovinAd?, adView: AppLovinAdView?, code: AppLovinAdViewDisplayErrorCode?)
     {
-        logCallback()
+        logCallback("adFailedToDisplay")
     }
 
     //endregion
@@ -98,7 +98,7 @@ class BannerLayoutEditorActivity : BaseAdActivity(),
 
     override fun adClicked(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -51,13 +51,13 @@ class BannerProgrammaticActivity : BaseAdActivity(),
 
     override fun adReceived(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adReceived")
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
     }
 
     //endregion
@@ -66,12 +66,12 @@ class BannerProgrammaticActivity : BaseAdActivity(),
 
     override fun adDisplayed(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -80,22 +80,22 @@ class BannerProgrammaticActivity : BaseAdActivity(),
 
     override fun adOpenedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adOpenedFullscreen")
     }
 
     override fun adClosedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adClosedFullscreen")
     }
 
     override fun adLeftApplication(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adLeftApplication")
     }
 
     override fun adFailedToDisplay(ad: AppLovinAd?, adView: AppLovinAdView?, code: AppLovinAdViewDisplayErrorCode?)
     {
-        logCallback()
+        logCallback("adFailedToDisplay")
     }
 
     //endregion
@@ -104,7 +104,7 @@ class BannerProgrammaticActivity : BaseAdActivity(),
 
     override fun adClicked(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -11,7 +11,6 @@ import android.widget.ArrayAdapter
 import android.widget.TextView
 
 import com.applovin.sdk.AppLovinEventParameters
-import com.applovin.sdk.AppLovinEventService
 import com.applovin.sdk.AppLovinEventTypes
 import com.applovin.sdk.AppLovinSdk
 import kotlinx.android.synthetic.main.activity_list.*
@@ -21,12 +20,16 @@ import com.applovin.enterprise.apps.demoapp.R
 
 class EventTrackingActivity : AppCompatActivity()
 {
+    private lateinit var eventTrackingQueue: EventTrackingQueue
+
     private data class EventItem(val name: String,
                                  val description: String,
                                  val eventType: String,
                                  val parameters: Map<String, String>)
     {
-        fun trackEvent(eventService: AppLovinEventService)
+        private val event = EventTrackingQueue.Event(eventType, parameters)
+
+        fun trackEvent(eventTrackingQueue: EventTrackingQueue)
         {
             if (eventType == AppLovinEventTypes.USER_COMPLETED_IN_APP_PURCHASE)
             {
@@ -36,7 +39,7 @@ class EventTrackingActivity : AppCompatActivity()
             }
             else
             {
-                eventService.trackEvent(eventType, parameters)
+                eventTrackingQueue.track(event)
             }
         }
     }
@@ -48,7 +51,14 @@ class EventTrackingActivity : AppCompatActivity()
 
         setTitle(R.string.title_activity_event_tracking)
 
-        val eventService = AppLovinSdk.getInstance(this).eventService
+        eventTrackingQueue = EventTrackingQueue(AppLovinSdk.getInstance(this).eventService)
+        eventTrackingQueue.listener = object : EventTrackingQueue.Listener
+        {
+            override fun onBatchTracked()
+            {
+                updateStats()
+            }
+        }
 
         val unixTimeInMilliseconds = System.currentTimeMillis() / 1000L
 
@@ -202,11 +212,24 @@ class EventTrackingActivity : AppCompatActivity()
 
         val itemClickListener = AdapterView.OnItemClickListener { _, _, position, _ ->
             val event = events[position]
-            event.trackEvent(eventService)
+            event.trackEvent(eventTrackingQueue)
 
             val eventName = event.name
             title = eventName
+            updateStats()
         }
         list_view.onItemClickListener = itemClickListener
     }
+
+    override fun onDestroy()
+    {
+        eventTrackingQueue.shutdown()
+
+        super.onDestroy()
+    }
+
+    private fun updateStats()
+    {
+        supportActionBar?.subtitle = eventTrackingQueue.stats
+    }
 }
@@ -0,0 +1,121 @@
+package com.applovin.enterprise.apps.demoapp.ads.applovin.eventtracking
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.applovin.sdk.AppLovinEventService
+import java.util.Collections
+import java.util.Locale
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Tracks events with [AppLovinEventService] in batches from a background thread, instead of one call on the main thread per event.
+ *
+ * The first time an event is tracked, a batch is scheduled [COALESCING_WINDOW_MILLIS] later. Tracking the same event again before its batch is
+ * sent (e.g. a double tap) is coalesced into the pending one. [track] is safe to call from any thread.
+ */
+internal class EventTrackingQueue(private val eventService: AppLovinEventService)
+{
+    /**
+     * An event to track. Build it, including its parameters, once and track the same instance every time - events are coalesced by identity.
+     */
+    class Event(val eventType: String, val parameters: Map<String, String>)
+
+    interface Listener
+    {
+        /**
+         * Called on the main thread after a batch of events has been tracked.
+         */
+        fun onBatchTracked()
+    }
+
+    private val executor = Executors.newSingleThreadScheduledExecutor()
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private val pendingEventSet: MutableSet<Event> = Collections.newSetFromMap(ConcurrentHashMap<Event, Boolean>())
+    private val pendingEvents = ConcurrentLinkedQueue<Event>()
+    private val isFlushScheduled = AtomicBoolean()
+    private val enqueuedCount = AtomicLong()
+    private val coalescedCount = AtomicLong()
+    private val trackedCount = AtomicLong()
+    private val batchCount = AtomicLong()
+    private val createdAtMillis = SystemClock.elapsedRealtime()
+
+    @Volatile
+    var listener: Listener? = null
+
+    fun track(event: Event)
+    {
+        enqueuedCount.incrementAndGet()
+
+        if (!pendingEventSet.add(event))
+        {
+            coalescedCount.incrementAndGet()
+            return
+        }
+
+        pendingEvents.offer(event)
+
+        if (isFlushScheduled.compareAndSet(false, true))
+        {
+            executor.schedule({ flush() }, COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS)
+        }
+    }
+
+    /**
+     * Stop the queue. Events that are already pending are still tracked, but no new events may be tracked.
+     */
+    fun shutdown()
+    {
+        listener = null
+        executor.shutdown()
+    }
+
+    /**
+     * The number of events enqueued, coalesced and tracked so far, and the tracking throughput.
+     */
+    val stats: String
+        get()
+        {
+            val elapsedMillis = Math.max(1L, SystemClock.elapsedRealtime() - createdAtMillis)
+            return String.format(Locale.US, "%d tracked in %d batches, %d of %d coalesced, %.2f/s",
+                                 trackedCount.get(),
+                                 batchCount.get(),
+                                 coalescedCount.get(),
+                                 enqueuedCount.get(),
+                                 trackedCount.get() * 1000f / elapsedMillis)
+        }
+
+    private fun flush()
+    {
+        isFlushScheduled.set(false)
+
+        var batchSize = 0
+        while (true)
+        {
+            val event = pendingEvents.poll() ?: break
+
+            // Allow the event to be queued again as soon as it has been taken out of the batch
+            pendingEventSet.remove(event)
+
+            eventService.trackEvent(event.eventType, event.parameters)
+            batchSize++
+        }
+
+        if (batchSize == 0) return
+
+        trackedCount.addAndGet(batchSize.toLong())
+        batchCount.incrementAndGet()
+
+        mainHandler.post { listener?.onBatchTracked() }
+    }
+
+    companion object
+    {
+        private const val COALESCING_WINDOW_MILLIS = 500L
+    }
+}
@@ -39,14 +39,14 @@ class RewardedVideosActivity : BaseAdActivity(),
 
     override fun adReceived(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adReceived")
         showButton.isEnabled = true
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
         showButton.isEnabled = true
     }
 
@@ -56,12 +56,12 @@ class RewardedVideosActivity : BaseAdActivity(),
 
     override fun adDisplayed(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -70,7 +70,7 @@ class RewardedVideosActivity : BaseAdActivity(),
 
     override fun adClicked(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -79,12 +79,12 @@ class RewardedVideosActivity : BaseAdActivity(),
 
     override fun videoPlaybackBegan(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("videoPlaybackBegan")
     }
 
     override fun videoPlaybackEnded(appLovinAd: AppLovinAd, percentViewed: Double, wasFullyViewed: Boolean)
     {
-        logCallback()
+        logCallback("videoPlaybackEnded")
     }
 
     //endregion
@@ -96,7 +96,7 @@ class RewardedVideosActivity : BaseAdActivity(),
         // AppLovin servers validated the reward. Refresh user balance from your server.  We will also pass the number of coins
         // awarded and the name of the currency.  However, ideally, you should verify this with your server before granting it.
 
-        logCallback()
+        logCallback("userRewardVerified")
 
         // By default we'll show a alert informing your user of the currency & amount earned.
         // If you don't want this, you can turn it off in the Manage Apps UI.
@@ -108,7 +108,7 @@ class RewardedVideosActivity : BaseAdActivity(),
         // don't give them any more currency. By default we'll show them a alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback()
+        logCallback("userOverQuota")
     }
 
     override fun userRewardRejected(appLovinAd: AppLovinAd, map: Map<String, String>)
@@ -117,7 +117,7 @@ class RewardedVideosActivity : BaseAdActivity(),
         // them, for example. Don't grant them any currency. By default we'll show them an alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback()
+        logCallback("userRewardRejected")
     }
 
     override fun validationRequestFailed(appLovinAd: AppLovinAd, responseCode: Int)
@@ -143,7 +143,7 @@ class RewardedVideosActivity : BaseAdActivity(),
                 // Note: This code is only possible when working with rewarded videos.
             }
         }
-        logCallback()
+        logCallback("validationRequestFailed")
     }
 
     //endregion
@@ -0,0 +1,183 @@
+package com.applovin.enterprise.apps.demoapp.ads
+
+import android.content.BroadcastReceiver
+import android.content.Context
+import android.content.Intent
+import android.content.IntentFilter
+import android.net.ConnectivityManager
+import android.os.Handler
+import android.os.Looper
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.LifecycleObserver
+import androidx.lifecycle.LifecycleOwner
+import androidx.lifecycle.OnLifecycleEvent
+import java.util.Random
+import java.util.concurrent.TimeUnit
+
+/**
+ * Schedules ad load retries per ad unit for the lifetime of the application, with exponential backoff and jitter, so that ad units failing together
+ * (e.g. while offline) do not retry in lockstep, and the backoff of an ad unit survives the screens that show its ads.
+ * <p>
+ * At most one retry is pending per ad unit. Screens [observe] the ad units they show, and a retry that comes due while none of its observers is
+ * started, or while the device is offline, is held until an observer is started and the device is back online. Must only be used from the main thread.
+ */
+class AdLoadScheduler private constructor(private val context: Context)
+{
+    private val handler = Handler(Looper.getMainLooper())
+    private val random = Random()
+    private val retryAttempts = mutableMapOf<String, Int>()
+    private val pendingLoads = mutableMapOf<String, PendingLoad>()
+    private val observers = mutableMapOf<String, MutableList<Observer>>()
+    private val networkReceiver = object : BroadcastReceiver()
+    {
+        override fun onReceive(context: Context, intent: Intent)
+        {
+            if (isOnline())
+            {
+                // Loads that are still offline register the receiver again
+                unregisterNetworkReceiver()
+                runHeldLoads(null)
+            }
+        }
+    }
+
+    private var isNetworkReceiverRegistered = false
+
+    /**
+     * Let the owner observe the ad unit until it is destroyed. Retries of the ad unit only run while at least one of its observers is started.
+     */
+    fun observe(adUnitId: String, owner: LifecycleOwner)
+    {
+        val lifecycle = owner.lifecycle
+        if (lifecycle.currentState == Lifecycle.State.DESTROYED) return
+
+        val observer = Observer(adUnitId, lifecycle)
+        observers.getOrPut(adUnitId) { mutableListOf() }.add(observer)
+        lifecycle.addObserver(observer)
+    }
+
+    /**
+     * Schedule a retry of a failed load for the given ad unit. Does nothing if a retry is already pending for it.
+     */
+    fun scheduleRetry(adUnitId: String, load: () -> Unit)
+    {
+        if (pendingLoads.containsKey(adUnitId)) return
+
+        val retryAttempt = (retryAttempts[adUnitId] ?: 0) + 1
+        retryAttempts[adUnitId] = retryAttempt
+
+        // "Equal jitter" - wait at least half of the backoff so retries still back off, and randomize the rest to spread them out
+        val backoffMillis = TimeUnit.SECONDS.toMillis(1L shl Math.min(MAX_BACKOFF_EXPONENT, retryAttempt))
+        val delayMillis = backoffMillis / 2 + (random.nextDouble() * (backoffMillis / 2)).toLong()
+
+        val pendingLoad = PendingLoad(adUnitId, load)
+        pendingLoads[adUnitId] = pendingLoad
+        handler.postDelayed(pendingLoad, delayMillis)
+    }
+
+    /**
+     * Whether a retry is pending for the given ad unit, including a retry that is held until the ad unit is observed and the device is online.
+     */
+    fun isRetryPending(adUnitId: String): Boolean = pendingLoads.containsKey(adUnitId)
+
+    /**
+     * Reset the backoff for the given ad unit after a successful load.
+     */
+    fun reset(adUnitId: String)
+    {
+        retryAttempts.remove(adUnitId)
+        pendingLoads.remove(adUnitId)?.let { handler.removeCallbacks(it) }
+    }
+
+    private fun isObserved(adUnitId: String): Boolean =
+            observers[adUnitId]?.any { it.lifecycle.currentState.isAtLeast(Lifecycle.State.STARTED) } == true
+
+    /**
+     * Run the held loads of the given ad unit, or of all ad units if it is null.
+     */
+    private fun runHeldLoads(adUnitId: String?)
+    {
+        pendingLoads.values.filter { it.isHeld && (adUnitId == null || adUnitId == it.adUnitId) }.forEach { it.run() }
+    }
+
+    private fun isOnline(): Boolean
+    {
+        val connectivityManager = context.getSystemService(Context.CONNECTIVITY_SERVICE) as ConnectivityManager?
+        return connectivityManager?.activeNetworkInfo?.isConnected == true
+    }
+
+    private fun registerNetworkReceiver()
+    {
+        if (isNetworkReceiverRegistered) return
+
+        context.registerReceiver(networkReceiver, IntentFilter(ConnectivityManager.CONNECTIVITY_ACTION))
+        isNetworkReceiverRegistered = true
+    }
+
+    private fun unregisterNetworkReceiver()
+    {
+        if (!isNetworkReceiverRegistered) return
+
+        context.unregisterReceiver(networkReceiver)
+        isNetworkReceiverRegistered = false
+    }
+
+    private inner class Observer(private val adUnitId: String, val lifecycle: Lifecycle) : LifecycleObserver
+    {
+        @OnLifecycleEvent(Lifecycle.Event.ON_START)
+        fun onStart()
+        {
+            runHeldLoads(adUnitId)
+        }
+
+        @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
+        fun onDestroy()
+        {
+            lifecycle.removeObserver(this)
+
+            // Pending retries are kept, and held until the next screen observing the ad unit is started
+            val adUnitObservers = observers[adUnitId] ?: return
+            adUnitObservers.remove(this)
+            if (adUnitObservers.isEmpty())
+            {
+                observers.remove(adUnitId)
+            }
+        }
+    }
+
+    private inner class PendingLoad(val adUnitId: String, private val load: () -> Unit) : Runnable
+    {
+        // Whether the retry came due while unobserved or offline and is waiting to be resumed
+        var isHeld = false
+
+        override fun run()
+        {
+            if (!isObserved(adUnitId))
+            {
+                isHeld = true
+                return
+            }
+
+            if (!isOnline())
+            {
+                isHeld = true
+                registerNetworkReceiver()
+                return
+            }
+
+            pendingLoads.remove(adUnitId)
+            load()
+        }
+    }
+
+    companion object
+    {
+        // We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds)
+        private const val MAX_BACKOFF_EXPONENT = 6
+
+        private var instance: AdLoadScheduler? = null
+
+        fun getInstance(context: Context): AdLoadScheduler =
+                instance ?: AdLoadScheduler(context.applicationContext).also { instance = it }
+    }
+}
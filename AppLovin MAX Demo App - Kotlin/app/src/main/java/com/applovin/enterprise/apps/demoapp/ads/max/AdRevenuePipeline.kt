@@ -0,0 +1,217 @@
+package com.applovin.enterprise.apps.demoapp.ads
+
+import android.content.Context
+import android.util.Log
+import com.adjust.sdk.Adjust
+import com.adjust.sdk.AdjustAdRevenue
+import com.adjust.sdk.AdjustConfig
+import com.applovin.mediation.MaxAd
+import java.io.File
+import java.io.FileWriter
+import java.io.IOException
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Forwards MAX ad revenue to Adjust in batches from a background thread, instead of one synchronous [Adjust.trackAdRevenue] call per impression.
+ * <p>
+ * Impressions are enqueued without locking and appended to a small file on the pipeline thread so they survive process death. Once [BATCH_SIZE]
+ * impressions are queued, or every [FLUSH_INTERVAL_SECONDS] seconds, they are coalesced per network, ad unit and placement and sent to Adjust.
+ * Coalescing sums the revenue of a batch, so Adjust receives one total per network, ad unit and placement rather than the revenue of each impression.
+ * <p>
+ * A batch is moved to an in-flight file before it is sent, and deleted once sent. An in-flight file left behind by process death is dropped rather than
+ * sent again, as Adjust may already have received it.
+ */
+class AdRevenuePipeline private constructor(context: Context)
+{
+    private val file = File(context.filesDir, FILE_NAME)
+    private val inFlightFile = File(context.filesDir, IN_FLIGHT_FILE_NAME)
+    private val incomingEvents = ConcurrentLinkedQueue<RevenueEvent>()
+    private val queueDepth = AtomicInteger()
+    private val isPersistScheduled = AtomicBoolean()
+    private val isFlushScheduled = AtomicBoolean()
+    private val executor = Executors.newSingleThreadScheduledExecutor()
+    private val persistTask = Runnable {
+        isPersistScheduled.set(false)
+        persist()
+    }
+    private val flushTask = Runnable {
+        isFlushScheduled.set(false)
+        flush()
+    }
+
+    // Events that have been written to the file but not yet sent to Adjust. Only accessed on the pipeline thread.
+    private val persistedEvents = mutableListOf<RevenueEvent>()
+    private var isStarted = false
+
+    init
+    {
+        executor.execute { restore() }
+    }
+
+    /**
+     * Start sending revenue to Adjust. Must be called once Adjust has been initialized - impressions tracked before then are held until this is called.
+     */
+    fun start()
+    {
+        executor.execute {
+            if (!isStarted)
+            {
+                isStarted = true
+                flush()
+                executor.scheduleWithFixedDelay(flushTask, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS)
+            }
+        }
+    }
+
+    /**
+     * Enqueue the revenue of an impression. Safe to call from any thread.
+     */
+    fun track(ad: MaxAd)
+    {
+        incomingEvents.offer(RevenueEvent(ad.networkName, ad.adUnitId, ad.placement, ad.revenue))
+
+        if (queueDepth.incrementAndGet() >= BATCH_SIZE)
+        {
+            if (isFlushScheduled.compareAndSet(false, true))
+            {
+                executor.execute(flushTask)
+            }
+        }
+        else if (isPersistScheduled.compareAndSet(false, true))
+        {
+            executor.execute(persistTask)
+        }
+    }
+
+    /**
+     * The number of impressions that have not been sent to Adjust yet.
+     */
+    val queueSize: Int
+        get() = queueDepth.get()
+
+    private fun restore()
+    {
+        // The process died while sending this batch, so Adjust may already have it - drop it rather than risk counting its revenue twice
+        if (inFlightFile.exists())
+        {
+            Log.w(TAG, "Dropping ad revenue batch that was being sent when the process died")
+            inFlightFile.delete()
+        }
+
+        if (!file.exists()) return
+
+        try
+        {
+            file.forEachLine { line -> RevenueEvent.fromLine(line)?.let { persistedEvents.add(it) } }
+        }
+        catch (exception: IOException)
+        {
+            Log.e(TAG, "Unable to restore queued ad revenue", exception)
+        }
+
+        queueDepth.addAndGet(persistedEvents.size)
+        Log.d(TAG, "Restored ${persistedEvents.size} queued ad revenue events")
+    }
+
+    private fun persist()
+    {
+        if (incomingEvents.isEmpty()) return
+
+        try
+        {
+            FileWriter(file, true).use { writer ->
+                while (true)
+                {
+                    val event = incomingEvents.poll() ?: break
+                    persistedEvents.add(event)
+                    writer.write(event.toLine())
+                }
+            }
+        }
+        catch (exception: IOException)
+        {
+            // Keep the events in memory so they are still sent if the process survives
+            Log.e(TAG, "Unable to persist ad revenue", exception)
+
+            while (true)
+            {
+                persistedEvents.add(incomingEvents.poll() ?: break)
+            }
+        }
+    }
+
+    private fun flush()
+    {
+        persist()
+
+        if (!isStarted || persistedEvents.isEmpty()) return
+
+        // Move the batch out of the queue file before sending it, so it is not sent again if the process dies mid-send
+        if (file.exists() && !file.renameTo(inFlightFile))
+        {
+            Log.e(TAG, "Unable to move queued ad revenue aside for sending, retrying on next flush")
+            return
+        }
+
+        val batches = persistedEvents.groupBy { Triple(it.networkName, it.adUnitId, it.placement) }
+        for ((key, events) in batches)
+        {
+            val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
+            adjustAdRevenue.setRevenue(events.sumByDouble { it.revenue }, "USD")
+            adjustAdRevenue.setAdImpressionsCount(events.size)
+            adjustAdRevenue.setAdRevenueNetwork(key.first)
+            adjustAdRevenue.setAdRevenueUnit(key.second)
+            adjustAdRevenue.setAdRevenuePlacement(key.third)
+
+            Adjust.trackAdRevenue(adjustAdRevenue)
+        }
+
+        val flushedCount = persistedEvents.size
+        persistedEvents.clear()
+        inFlightFile.delete()
+
+        val remainingCount = queueDepth.addAndGet(-flushedCount)
+        Log.d(TAG, "Sent $flushedCount impressions in ${batches.size} batches to Adjust, queue depth: $remainingCount")
+    }
+
+    private class RevenueEvent(val networkName: String, val adUnitId: String, val placement: String?, val revenue: Double)
+    {
+        fun toLine(): String = "${sanitize(networkName)}$FIELD_SEPARATOR${sanitize(adUnitId)}$FIELD_SEPARATOR${sanitize(placement)}$FIELD_SEPARATOR$revenue\n"
+
+        companion object
+        {
+            fun fromLine(line: String): RevenueEvent?
+            {
+                val fields = line.split(FIELD_SEPARATOR)
+                if (fields.size != 4) return null
+
+                val revenue = fields[3].toDoubleOrNull() ?: return null
+                return RevenueEvent(fields[0], fields[1], if (fields[2].isEmpty()) null else fields[2], revenue)
+            }
+
+            private fun sanitize(value: String?): String = value?.replace('\t', ' ')?.replace('\n', ' ') ?: ""
+        }
+    }
+
+    companion object
+    {
+        private const val TAG = "AdRevenuePipeline"
+        private const val FILE_NAME = "ad_revenue_queue.log"
+        private const val IN_FLIGHT_FILE_NAME = "ad_revenue_in_flight.log"
+        private const val FIELD_SEPARATOR = "\t"
+        private const val BATCH_SIZE = 10
+        private const val FLUSH_INTERVAL_SECONDS = 30L
+
+        @Volatile
+        private var instance: AdRevenuePipeline? = null
+
+        fun getInstance(context: Context): AdRevenuePipeline =
+                instance ?: synchronized(this) {
+                    instance ?: AdRevenuePipeline(context.applicationContext).also { instance = it }
+                }
+    }
+}
@@ -0,0 +1,161 @@
+package com.applovin.enterprise.apps.demoapp.ads
+
+import android.graphics.Rect
+import android.os.SystemClock
+import android.view.View
+import android.view.ViewTreeObserver
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.LifecycleObserver
+import androidx.lifecycle.LifecycleOwner
+import androidx.lifecycle.OnLifecycleEvent
+import com.applovin.mediation.ads.MaxAdView
+import java.util.Locale
+
+/**
+ * Pauses the auto-refresh of a banner or MREC [MaxAdView] while nobody can see it, and resumes it once the ad is on screen again.
+ * <p>
+ * Auto-refresh runs only while the owner is resumed and at least [MIN_VISIBLE_PERCENTAGE]% of the ad view is on screen, so ads are not fetched for a
+ * view that is scrolled off-screen, covered by another activity or in a backgrounded app. Visibility is re-checked at most once per frame when the
+ * view hierarchy scrolls or is laid out. Must only be used from the main thread.
+ */
+class AdViewRefreshController(private val adView: MaxAdView,
+                              owner: LifecycleOwner,
+                              private val listener: (isAutoRefreshing: Boolean) -> Unit) : LifecycleObserver
+{
+    private val lifecycle = owner.lifecycle
+    private val visibleRect = Rect()
+    private val scrollChangedListener = ViewTreeObserver.OnScrollChangedListener { scheduleUpdate() }
+    private val globalLayoutListener = ViewTreeObserver.OnGlobalLayoutListener { scheduleUpdate() }
+    private val attachStateListener = object : View.OnAttachStateChangeListener
+    {
+        override fun onViewAttachedToWindow(view: View)
+        {
+            addViewTreeListeners()
+            update()
+        }
+
+        override fun onViewDetachedFromWindow(view: View)
+        {
+            removeViewTreeListeners()
+            update()
+        }
+    }
+    private val updateTask = Runnable {
+        isUpdateScheduled = false
+        update()
+    }
+
+    private var isAutoRefreshing = true
+    private var isUpdateScheduled = false
+    private var pauseCount = 0
+    private var pausedAtMillis = 0L
+    private var totalPausedMillis = 0L
+
+    init
+    {
+        adView.addOnAttachStateChangeListener(attachStateListener)
+        if (adView.windowToken != null)
+        {
+            addViewTreeListeners()
+        }
+
+        // Auto-refresh is paused or resumed as soon as the owner is resumed
+        lifecycle.addObserver(this)
+    }
+
+    /**
+     * The number of times auto-refresh was paused, and for how long in total.
+     */
+    val stats: String
+        get()
+        {
+            val pausedMillis = totalPausedMillis + if (isAutoRefreshing) 0L else SystemClock.elapsedRealtime() - pausedAtMillis
+            return String.format(Locale.US, "auto-refresh paused %d times, %.1fs in total", pauseCount, pausedMillis / 1000f)
+        }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_RESUME)
+    fun onResume()
+    {
+        update()
+    }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_PAUSE)
+    fun onPause()
+    {
+        update()
+    }
+
+    @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
+    fun onDestroy()
+    {
+        adView.removeCallbacks(updateTask)
+        adView.removeOnAttachStateChangeListener(attachStateListener)
+        removeViewTreeListeners()
+
+        lifecycle.removeObserver(this)
+    }
+
+    private fun scheduleUpdate()
+    {
+        if (isUpdateScheduled) return
+
+        isUpdateScheduled = true
+        adView.postOnAnimation(updateTask)
+    }
+
+    private fun update()
+    {
+        // Wait for the first layout before judging whether the ad is visible
+        if (adView.width == 0 && adView.isLayoutRequested) return
+
+        val shouldAutoRefresh = lifecycle.currentState.isAtLeast(Lifecycle.State.RESUMED) && visiblePercentage >= MIN_VISIBLE_PERCENTAGE
+        if (shouldAutoRefresh == isAutoRefreshing) return
+
+        isAutoRefreshing = shouldAutoRefresh
+
+        if (shouldAutoRefresh)
+        {
+            totalPausedMillis += SystemClock.elapsedRealtime() - pausedAtMillis
+            adView.startAutoRefresh()
+        }
+        else
+        {
+            pauseCount++
+            pausedAtMillis = SystemClock.elapsedRealtime()
+            adView.stopAutoRefresh()
+        }
+
+        listener(shouldAutoRefresh)
+    }
+
+    private val visiblePercentage: Int
+        get()
+        {
+            val area = adView.width.toLong() * adView.height
+            if (area == 0L || !adView.isShown || !adView.getGlobalVisibleRect(visibleRect)) return 0
+
+            return (100L * visibleRect.width() * visibleRect.height() / area).toInt()
+        }
+
+    private fun addViewTreeListeners()
+    {
+        val observer = adView.viewTreeObserver
+        observer.addOnScrollChangedListener(scrollChangedListener)
+        observer.addOnGlobalLayoutListener(globalLayoutListener)
+    }
+
+    private fun removeViewTreeListeners()
+    {
+        val observer = adView.viewTreeObserver
+        if (!observer.isAlive) return
+
+        observer.removeOnScrollChangedListener(scrollChangedListener)
+        observer.removeOnGlobalLayoutListener(globalLayoutListener)
+    }
+
+    companion object
+    {
+        // The share of an ad that must be on screen for it to count as viewable
+        private const val MIN_VISIBLE_PERCENTAGE = 50
+    }
+}
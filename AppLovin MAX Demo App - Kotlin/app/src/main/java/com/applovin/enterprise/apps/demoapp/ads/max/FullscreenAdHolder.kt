@@ -0,0 +1,226 @@
+package com.applovin.enterprise.apps.demoapp.ads
+
+import android.app.Activity
+import android.content.Context
+import androidx.lifecycle.LifecycleOwner
+import com.applovin.mediation.MaxAd
+import com.applovin.mediation.MaxAdListener
+import com.applovin.mediation.MaxAdRevenueListener
+import com.applovin.mediation.MaxError
+import com.applovin.mediation.MaxReward
+import com.applovin.mediation.MaxRewardedAdListener
+import com.applovin.mediation.ads.MaxInterstitialAd
+import com.applovin.mediation.ads.MaxRewardedAd
+import java.util.Locale
+
+/**
+ * Holds MAX interstitial and rewarded ads per format and ad unit for the lifetime of the application, so that an ad which has already been loaded survives
+ * configuration changes and navigating away from the screen that shows it, instead of being discarded and auctioned again.
+ * <p>
+ * An activity [attach]es itself as the listener of an ad unit in onCreate and [detach]es in onDestroy. The ads are created with the application
+ * context and are shown with the activity that is current at the time, so the holder never references a destroyed activity. The next ad is pre-loaded
+ * as soon as one is hidden or fails to display, and failed loads are retried by the [AdLoadScheduler]. Must only be used from the main thread.
+ * <p>
+ * The holder owns the listeners of its ads. As the SDK shares one [MaxRewardedAd] per ad unit, nothing else may set the listener of a rewarded ad unit
+ * that is held here.
+ */
+class FullscreenAdHolder private constructor(private val applicationContext: Context)
+{
+    enum class Format
+    {
+        INTERSTITIAL, REWARDED
+    }
+
+    private val adLoadScheduler = AdLoadScheduler.getInstance(applicationContext)
+    private val entries = HashMap<String, Entry>()
+
+    private var attachCount = 0
+    private var loadCount = 0
+    private var savedLoadCount = 0
+
+    /**
+     * Set the listener of the ad unit's ad, and load it unless an ad is already loaded or loading, or a failed load is waiting to be retried. Rewarded
+     * callbacks are only forwarded to listeners that implement [MaxRewardedAdListener], and ad revenue only to listeners that implement
+     * [MaxAdRevenueListener].
+     */
+    fun attach(adUnitId: String, format: Format, listener: MaxAdListener)
+    {
+        val key = getKey(adUnitId, format)
+        val entry = entries.getOrPut(key) { Entry(key, adUnitId, format) }
+
+        entry.listener = listener
+        attachCount++
+
+        // Leave an ad unit whose load failed to its pending retry, so that re-attaching does not bypass the backoff
+        if (entry.isLoading || entry.isReady)
+        {
+            savedLoadCount++
+        }
+        else if (!adLoadScheduler.isRetryPending(key))
+        {
+            entry.load()
+        }
+    }
+
+    /**
+     * Retry failed loads of the ad unit's ad while the owner is started, see [AdLoadScheduler.observe].
+     */
+    fun observeRetries(adUnitId: String, format: Format, owner: LifecycleOwner)
+    {
+        adLoadScheduler.observe(getKey(adUnitId, format), owner)
+    }
+
+    /**
+     * Remove the listener of the ad unit's ad, if it is still the given one. The ad itself is kept.
+     */
+    fun detach(adUnitId: String, format: Format, listener: MaxAdListener)
+    {
+        val entry = entries[getKey(adUnitId, format)] ?: return
+        if (entry.listener === listener)
+        {
+            entry.listener = null
+        }
+    }
+
+    fun isReady(adUnitId: String, format: Format): Boolean = entries[getKey(adUnitId, format)]?.isReady == true
+
+    fun showAd(adUnitId: String, format: Format, activity: Activity)
+    {
+        val entry = entries[getKey(adUnitId, format)] ?: return
+        if (!entry.isReady) return
+
+        entry.interstitialAd?.showAd(activity)
+        entry.rewardedAd?.showAd(activity)
+    }
+
+    /**
+     * The number of times a screen attached to an ad unit, the number of ads loaded, and the number of loads saved by reusing a held ad.
+     */
+    val stats: String
+        get() = String.format(Locale.US, "%d attaches, %d loads, %d loads saved", attachCount, loadCount, savedLoadCount)
+
+    // The same ad unit ID may be used with both formats, e.g. while it is still a placeholder
+    private fun getKey(adUnitId: String, format: Format): String = "$format/$adUnitId"
+
+    private inner class Entry(private val key: String, adUnitId: String, format: Format) : MaxRewardedAdListener, MaxAdRevenueListener
+    {
+        val interstitialAd: MaxInterstitialAd?
+        val rewardedAd: MaxRewardedAd?
+
+        var listener: MaxAdListener? = null
+        var isLoading = false
+
+        val isReady: Boolean
+            get() = interstitialAd?.isReady ?: rewardedAd?.isReady ?: false
+
+        init
+        {
+            if (format == Format.INTERSTITIAL)
+            {
+                interstitialAd = MaxInterstitialAd(adUnitId, applicationContext)
+                interstitialAd.setListener(this)
+                interstitialAd.setRevenueListener(this)
+                rewardedAd = null
+            }
+            else
+            {
+                rewardedAd = MaxRewardedAd.getInstance(adUnitId, applicationContext)
+                rewardedAd.setListener(this)
+                rewardedAd.setRevenueListener(this)
+                interstitialAd = null
+            }
+        }
+
+        fun load()
+        {
+            isLoading = true
+            loadCount++
+
+            interstitialAd?.loadAd()
+            rewardedAd?.loadAd()
+        }
+
+        //region MAX Ad Listener
+
+        override fun onAdLoaded(ad: MaxAd?)
+        {
+            isLoading = false
+            adLoadScheduler.reset(key)
+
+            listener?.onAdLoaded(ad)
+        }
+
+        override fun onAdLoadFailed(adUnitId: String?, error: MaxError?)
+        {
+            isLoading = false
+
+            // The retry is held until a screen observing the ad unit is started
+            adLoadScheduler.scheduleRetry(key) { if (!isLoading && !isReady) load() }
+
+            listener?.onAdLoadFailed(adUnitId, error)
+        }
+
+        override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?)
+        {
+            // Load the next ad, whether or not a screen is attached
+            if (!isLoading) load()
+
+            listener?.onAdDisplayFailed(ad, error)
+        }
+
+        override fun onAdDisplayed(ad: MaxAd?)
+        {
+            listener?.onAdDisplayed(ad)
+        }
+
+        override fun onAdClicked(ad: MaxAd?)
+        {
+            listener?.onAdClicked(ad)
+        }
+
+        override fun onAdHidden(ad: MaxAd?)
+        {
+            // Pre-load the next ad, whether or not a screen is attached
+            if (!isLoading) load()
+
+            listener?.onAdHidden(ad)
+        }
+
+        override fun onRewardedVideoStarted(ad: MaxAd?)
+        {
+            (listener as? MaxRewardedAdListener)?.onRewardedVideoStarted(ad)
+        }
+
+        override fun onRewardedVideoCompleted(ad: MaxAd?)
+        {
+            (listener as? MaxRewardedAdListener)?.onRewardedVideoCompleted(ad)
+        }
+
+        override fun onUserRewarded(ad: MaxAd?, reward: MaxReward?)
+        {
+            (listener as? MaxRewardedAdListener)?.onUserRewarded(ad, reward)
+        }
+
+        //endregion
+
+        //region MAX Ad Revenue Listener
+
+        override fun onAdRevenuePaid(ad: MaxAd?)
+        {
+            // Forward revenue even if the screen that showed the ad has been destroyed in the meantime
+            ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
+
+            (listener as? MaxAdRevenueListener)?.onAdRevenuePaid(ad)
+        }
+
+        //endregion
+    }
+
+    companion object
+    {
+        private var instance: FullscreenAdHolder? = null
+
+        fun getInstance(context: Context): FullscreenAdHolder =
+                instance ?: FullscreenAdHolder(context.applicationContext).also { instance = it }
+    }
+}
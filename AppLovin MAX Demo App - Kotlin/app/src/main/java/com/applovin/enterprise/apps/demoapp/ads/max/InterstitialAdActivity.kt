@@ -1,19 +1,13 @@
 package com.applovin.enterprise.apps.demoapp.ads
 
 import android.os.Bundle
-import android.os.Handler
 import android.view.View
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
 import com.applovin.mediation.MaxAdListener
 import com.applovin.mediation.MaxAdRevenueListener
 import com.applovin.mediation.MaxError
-import com.applovin.mediation.ads.MaxInterstitialAd
-import java.util.concurrent.TimeUnit
 
 /**
  * [android.app.Activity] used to show AppLovin MAX interstitial ads.
@@ -22,8 +16,7 @@ import java.util.concurrent.TimeUnit
  */
 class InterstitialAdActivity : BaseAdActivity(),
         MaxAdListener, MaxAdRevenueListener {
-    private lateinit var interstitialAd: MaxInterstitialAd
-    private var retryAttempt = 0.0
+    private lateinit var adHolder: FullscreenAdHolder
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -32,18 +25,25 @@ class InterstitialAdActivity : BaseAdActivity(),
 
         setupCallbacksRecyclerView()
 
-        interstitialAd = MaxInterstitialAd("YOUR_AD_UNIT_ID", this)
+        // The ad is held by the application, so an ad loaded by a previous instance of this screen is reused instead of loading a new one.
+        adHolder = FullscreenAdHolder.getInstance(this)
+        adHolder.attach(AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this)
 
-        interstitialAd.setListener(this)
-        interstitialAd.setRevenueListener(this)
+        // Failed loads are retried by the application-wide scheduler while this screen is started.
+        adHolder.observeRetries(AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this)
 
-        // Load the first ad.
-        interstitialAd.loadAd()
+        supportActionBar?.subtitle = "Ad holder: " + adHolder.stats
+    }
+
+    override fun onDestroy() {
+        adHolder.detach(AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this)
+
+        super.onDestroy()
     }
 
     fun showAd(view: View) {
-        if (interstitialAd.isReady) {
-            interstitialAd.showAd()
+        if (adHolder.isReady(AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL)) {
+            adHolder.showAd(AD_UNIT_ID, FullscreenAdHolder.Format.INTERSTITIAL, this)
         }
     }
 
@@ -51,43 +51,33 @@ class InterstitialAdActivity : BaseAdActivity(),
 
     override fun onAdLoaded(ad: MaxAd?) {
         // Interstitial ad is ready to be shown. interstitialAd.isReady() will now return 'true'.
-        logCallback()
-
-        // Reset retry attempt
-        retryAttempt = 0.0
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
-
-        // Interstitial ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
+        logCallback("onAdLoadFailed")
 
-        retryAttempt++
-        val delayMillis = TimeUnit.SECONDS.toMillis(Math.pow(2.0, Math.min(6.0, retryAttempt)).toLong())
-
-        Handler().postDelayed({ interstitialAd.loadAd() }, delayMillis)
+        // Interstitial ad failed to load. The ad holder retries with exponentially higher delays up to a maximum delay (in this case 64 seconds).
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
 
-        // Interstitial ad failed to display. We recommend loading the next ad.
-        interstitialAd.loadAd()
+        // Interstitial ad failed to display. The ad holder loads the next ad.
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
 
-        // Interstitial Ad is hidden. Pre-load the next ad
-        interstitialAd.loadAd()
+        // Interstitial Ad is hidden. The ad holder pre-loads the next ad.
     }
 
     //endregion
@@ -95,16 +85,13 @@ class InterstitialAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
-
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        // The ad holder forwards the revenue to the ad revenue pipeline.
+        logCallback("onAdRevenuePaid")
     }
 
     //endregion
+
+    companion object {
+        private const val AD_UNIT_ID = "YOUR_AD_UNIT_ID"
+    }
 }
@@ -1,17 +1,11 @@
 package com.applovin.enterprise.apps.demoapp.ads
 
 import android.os.Bundle
-import android.os.Handler
 import android.view.View
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
 
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.*
-import com.applovin.mediation.ads.MaxRewardedAd
-import java.util.concurrent.TimeUnit
 
 /**
  * [android.app.Activity] used to show AppLovin MAX rewarded ads.
@@ -20,8 +14,7 @@ import java.util.concurrent.TimeUnit
  */
 class RewardedAdActivity : BaseAdActivity(),
         MaxRewardedAdListener, MaxAdRevenueListener {
-    private lateinit var rewardedAd: MaxRewardedAd
-    private var retryAttempt = 0.0
+    private lateinit var adHolder: FullscreenAdHolder
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -30,17 +23,25 @@ class RewardedAdActivity : BaseAdActivity(),
 
         setupCallbacksRecyclerView()
 
-        rewardedAd = MaxRewardedAd.getInstance("YOUR_AD_UNIT_ID", this)
+        // The ad is held by the application, so an ad loaded by a previous instance of this screen is reused instead of loading a new one.
+        adHolder = FullscreenAdHolder.getInstance(this)
+        adHolder.attach(AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this)
 
-        rewardedAd.setListener(this)
-        rewardedAd.setRevenueListener(this)
+        // Failed loads are retried by the application-wide scheduler while this screen is started.
+        adHolder.observeRetries(AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this)
 
-        rewardedAd.loadAd()
+        supportActionBar?.subtitle = "Ad holder: " + adHolder.stats
+    }
+
+    override fun onDestroy() {
+        adHolder.detach(AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this)
+
+        super.onDestroy()
     }
 
     fun showAd(view: View) {
-        if (rewardedAd.isReady) {
-            rewardedAd.showAd()
+        if (adHolder.isReady(AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED)) {
+            adHolder.showAd(AD_UNIT_ID, FullscreenAdHolder.Format.REWARDED, this)
         }
     }
 
@@ -48,56 +49,46 @@ class RewardedAdActivity : BaseAdActivity(),
 
     override fun onAdLoaded(ad: MaxAd?) {
         // Rewarded ad is ready to be shown. rewardedAd.isReady() will now return 'true'
-        logCallback()
-
-        // Reset retry attempt
-        retryAttempt = 0.0
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
-
-        // Rewarded ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
+        logCallback("onAdLoadFailed")
 
-        retryAttempt++
-        val delayMillis = TimeUnit.SECONDS.toMillis(Math.pow(2.0, Math.min(6.0, retryAttempt)).toLong())
-
-        Handler().postDelayed({ rewardedAd.loadAd() }, delayMillis)
+        // Rewarded ad failed to load. The ad holder retries with exponentially higher delays up to a maximum delay (in this case 64 seconds).
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
 
-        // Rewarded ad failed to display. We recommend loading the next ad.
-        rewardedAd.loadAd()
+        // Rewarded ad failed to display. The ad holder loads the next ad.
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
 
-        // Rewarded ad is hidden. Pre-load the next ad.
-        rewardedAd.loadAd()
+        // Rewarded ad is hidden. The ad holder pre-loads the next ad.
     }
 
     override fun onRewardedVideoStarted(ad: MaxAd?) {
-        logCallback()
+        logCallback("onRewardedVideoStarted")
     }
 
     override fun onRewardedVideoCompleted(ad: MaxAd?) {
-        logCallback()
+        logCallback("onRewardedVideoCompleted")
     }
 
     override fun onUserRewarded(ad: MaxAd?, reward: MaxReward?) {
         // Rewarded ad was displayed and user should receive the reward.
-        logCallback()
+        logCallback("onUserRewarded")
     }
 
     //endregion
@@ -105,16 +96,13 @@ class RewardedAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
-
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        // The ad holder forwards the revenue to the ad revenue pipeline.
+        logCallback("onAdRevenuePaid")
     }
 
     //endregion
+
+    companion object {
+        private const val AD_UNIT_ID = "YOUR_AD_UNIT_ID"
+    }
 }
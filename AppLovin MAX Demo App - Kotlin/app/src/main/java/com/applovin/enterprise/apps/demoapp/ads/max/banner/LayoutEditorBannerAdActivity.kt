@@ -1,10 +1,9 @@
 package com.applovin.enterprise.apps.demoapp.ads.max.banner
 
 import android.os.Bundle
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
+import com.applovin.enterprise.apps.demoapp.ads.AdViewRefreshController
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
 import com.applovin.mediation.MaxAdRevenueListener
@@ -20,6 +19,8 @@ import kotlinx.android.synthetic.main.activity_layout_editor_banner_ad.*
  */
 class LayoutEditorBannerAdActivity : BaseAdActivity(),
         MaxAdViewAdListener, MaxAdRevenueListener {
+    private lateinit var adViewRefreshController: AdViewRefreshController
+
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
         setContentView(R.layout.activity_layout_editor_banner_ad)
@@ -31,6 +32,12 @@ class LayoutEditorBannerAdActivity : BaseAdActivity(),
         bannerAdView.setRevenueListener(this)
 
         bannerAdView.loadAd()
+
+        // Pause auto-refresh while the ad is off-screen, covered or in the background, and resume it once the ad is visible again.
+        adViewRefreshController = AdViewRefreshController(bannerAdView, this) { isAutoRefreshing ->
+            val state = if (isAutoRefreshing) "Auto-refresh resumed" else "Auto-refresh paused"
+            supportActionBar?.subtitle = state + ": " + adViewRefreshController.stats
+        }
     }
 
     override fun onDestroy() {
@@ -42,35 +49,35 @@ class LayoutEditorBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -78,15 +85,9 @@ class LayoutEditorBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+        logCallback("onAdRevenuePaid")
 
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
     }
 
     //endregion
@@ -4,10 +4,9 @@ import android.graphics.Color
 import android.os.Bundle
 import android.view.ViewGroup
 import android.widget.FrameLayout
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
+import com.applovin.enterprise.apps.demoapp.ads.AdViewRefreshController
 
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
@@ -26,6 +25,7 @@ import kotlinx.android.synthetic.main.activity_layout_editor_banner_ad.*
 class ProgrammaticBannerAdActivity : BaseAdActivity(),
         MaxAdViewAdListener, MaxAdRevenueListener {
     private lateinit var adView: MaxAdView
+    private lateinit var adViewRefreshController: AdViewRefreshController
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -49,6 +49,12 @@ class ProgrammaticBannerAdActivity : BaseAdActivity(),
         rootView.addView(adView)
 
         adView.loadAd()
+
+        // Pause auto-refresh while the ad is off-screen, covered or in the background, and resume it once the ad is visible again.
+        adViewRefreshController = AdViewRefreshController(adView, this) { isAutoRefreshing ->
+            val state = if (isAutoRefreshing) "Auto-refresh resumed" else "Auto-refresh paused"
+            supportActionBar?.subtitle = state + ": " + adViewRefreshController.stats
+        }
     }
 
     override fun onDestroy() {
@@ -60,35 +66,35 @@ class ProgrammaticBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -97,15 +103,9 @@ class ProgrammaticBannerAdActivity : BaseAdActivity(),
 
     override fun onAdRevenuePaid(ad: MaxAd?)
     {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+        logCallback("onAdRevenuePaid")
 
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
     }
 
     //endregion
@@ -0,0 +1,137 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest
+
+import android.os.Bundle
+import android.util.Log
+import android.view.View
+import android.widget.Button
+import android.widget.EditText
+import android.widget.TextView
+import android.widget.Toast
+import androidx.appcompat.app.AppCompatActivity
+import com.applovin.enterprise.apps.demoapp.R
+import java.io.IOException
+import java.util.Locale
+
+/**
+ * An [android.app.Activity] used to load test AppLovin MAX ad units: it keeps a number of ad loads in flight for a given duration, and shows the
+ * load latency percentiles, fill rate and error codes. The recorded loads can be exported to a CSV file in the app's external files directory.
+ */
+class LoadTestActivity : AppCompatActivity() {
+
+    private lateinit var targetsEditText: EditText
+    private lateinit var concurrencyEditText: EditText
+    private lateinit var durationEditText: EditText
+    private lateinit var startStopButton: Button
+    private lateinit var exportButton: Button
+    private lateinit var statusTextView: TextView
+    private lateinit var resultsTextView: TextView
+
+    private var runner: LoadTestRunner? = null
+    private var lastResults: LoadTestResults? = null
+
+    override fun onCreate(savedInstanceState: Bundle?) {
+        super.onCreate(savedInstanceState)
+        setContentView(R.layout.activity_load_test)
+        setTitle(R.string.activity_load_test)
+
+        targetsEditText = findViewById(R.id.targets_edit_text)
+        concurrencyEditText = findViewById(R.id.concurrency_edit_text)
+        durationEditText = findViewById(R.id.duration_edit_text)
+        startStopButton = findViewById(R.id.start_stop_button)
+        exportButton = findViewById(R.id.export_button)
+        statusTextView = findViewById(R.id.status_text_view)
+        resultsTextView = findViewById(R.id.results_text_view)
+    }
+
+    override fun onDestroy() {
+        // Stop publishing progress to this screen, and destroy the ads that are still loading
+        runner?.cancel()
+        runner = null
+
+        super.onDestroy()
+    }
+
+    fun onStartStopClicked(view: View) {
+        runner?.let {
+            it.stop()
+            statusTextView.text = "Stopping, waiting for loads in flight..."
+            return
+        }
+
+        val targets: List<LoadTestRunner.Target>
+        val concurrency: Int
+        val durationSeconds: Long
+        try {
+            targets = parseTargets(targetsEditText.text.toString())
+            concurrency = concurrencyEditText.text.toString().toInt()
+            durationSeconds = durationEditText.text.toString().toLong()
+        } catch (exception: IllegalArgumentException) {
+            Toast.makeText(this, exception.message, Toast.LENGTH_LONG).show()
+            return
+        }
+
+        if (targets.isEmpty() || concurrency <= 0 || durationSeconds <= 0) {
+            Toast.makeText(this, "Enter at least one ad unit, and a positive number of concurrent loads and duration", Toast.LENGTH_LONG).show()
+            return
+        }
+
+        val loadTestRunner = LoadTestRunner(this, targets, concurrency, durationSeconds, object : LoadTestRunner.Listener {
+            override fun onProgress(results: LoadTestResults, loadsInFlight: Int) {
+                statusTextView.text = String.format(Locale.US, "Running: %d loads completed, %d in flight", results.loadCount, loadsInFlight)
+                resultsTextView.text = results.getSummary()
+            }
+
+            override fun onFinished(results: LoadTestResults) {
+                runner = null
+                lastResults = results
+
+                statusTextView.text = String.format(Locale.US, "Finished: %d loads completed", results.loadCount)
+                resultsTextView.text = results.getSummary()
+                startStopButton.text = "Start"
+                exportButton.isEnabled = results.loadCount > 0
+            }
+        })
+        runner = loadTestRunner
+
+        startStopButton.text = "Stop"
+        exportButton.isEnabled = false
+        loadTestRunner.start()
+    }
+
+    fun onExportClicked(view: View) {
+        val samples = lastResults?.getSamples() ?: return
+        val directory = getExternalFilesDir(null) ?: filesDir
+
+        Thread {
+            val message = try {
+                "Exported to " + LoadTestResults.exportCsv(samples, directory).absolutePath
+            } catch (exception: IOException) {
+                Log.e(TAG, "Unable to export load test results", exception)
+                "Unable to export load test results: " + exception.message
+            }
+
+            runOnUiThread { Toast.makeText(applicationContext, message, Toast.LENGTH_LONG).show() }
+        }.start()
+    }
+
+    private fun parseTargets(text: String): List<LoadTestRunner.Target> {
+        return text.lines()
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+                .map { line ->
+                    val fields = line.split(",")
+                    require(fields.size == 2 && fields[1].isNotBlank()) { "Invalid line, expected FORMAT,AD_UNIT_ID: $line" }
+
+                    // The SDK shares one rewarded ad per ad unit, and keeps its loaded ad until it is shown
+                    require(!fields[0].trim().equals("REWARDED", ignoreCase = true)) { "Rewarded ad units cannot be load tested, as their loaded ad is reused until shown: $line" }
+
+                    // Throws an IllegalArgumentException for unknown formats
+                    val format = LoadTestRunner.Format.valueOf(fields[0].trim().toUpperCase(Locale.US))
+                    LoadTestRunner.Target(format, fields[1].trim())
+                }
+    }
+
+    companion object {
+        private const val TAG = "LoadTestActivity"
+    }
+}
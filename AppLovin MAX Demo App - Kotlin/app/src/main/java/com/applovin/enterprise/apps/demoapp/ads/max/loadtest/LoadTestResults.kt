@@ -0,0 +1,112 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest
+
+import java.io.File
+import java.io.FileWriter
+import java.io.IOException
+import java.util.Locale
+import kotlin.math.ceil
+
+/**
+ * The ad loads recorded by a [LoadTestRunner], with helpers to summarize them and export them to a CSV file.
+ * <p>
+ * Must only be used from the main thread, apart from [exportCsv].
+ */
+class LoadTestResults {
+
+    class Sample(
+            val startedAtMillis: Long,
+            val format: LoadTestRunner.Format,
+            val adUnitId: String,
+            val networkName: String?,
+            val latencyMillis: Long,
+            val isFilled: Boolean,
+            val errorCode: Int
+    )
+
+    private val samples = mutableListOf<Sample>()
+
+    val loadCount: Int
+        get() = samples.size
+
+    fun add(sample: Sample) {
+        samples.add(sample)
+    }
+
+    /**
+     * A copy of the recorded loads, e.g. to export them from another thread.
+     */
+    fun getSamples(): List<Sample> = ArrayList(samples)
+
+    /**
+     * A human-readable summary: overall and per network latency percentiles, and fill rate and error codes per ad unit.
+     */
+    fun getSummary(): String {
+        if (samples.isEmpty()) return "No loads recorded yet"
+
+        val summary = StringBuilder()
+        summary.append(formatLoads("All loads", samples)).append("\n\nFilled loads by network\n")
+
+        samples.filter { it.isFilled }
+                .groupBy { it.networkName ?: "Unknown" }
+                .toSortedMap()
+                .forEach { (networkName, networkSamples) -> summary.append(formatLoads(networkName, networkSamples)).append('\n') }
+
+        summary.append("\nLoads by ad unit\n")
+        samples.groupBy { "${it.format} ${it.adUnitId}" }
+                .toSortedMap()
+                .forEach { (adUnit, adUnitSamples) ->
+                    summary.append(formatLoads(adUnit, adUnitSamples)).append('\n')
+
+                    val errorCounts = adUnitSamples.filter { !it.isFilled }.groupingBy { it.errorCode }.eachCount().toSortedMap()
+                    if (errorCounts.isNotEmpty()) {
+                        summary.append("  errors (code=count): ").append(errorCounts).append('\n')
+                    }
+                }
+
+        return summary.toString()
+    }
+
+    companion object {
+        private const val CSV_HEADER = "started_at_millis,format,ad_unit_id,network,latency_millis,filled,error_code\n"
+
+        /**
+         * Write the given loads to a new CSV file in the given directory. Performs I/O, so should not be called from the main thread.
+         *
+         * @return The file that was written.
+         */
+        @Throws(IOException::class)
+        fun exportCsv(samples: List<Sample>, directory: File): File {
+            val file = File(directory, "load_test_${System.currentTimeMillis()}.csv")
+            FileWriter(file).use { writer ->
+                writer.write(CSV_HEADER)
+                for (sample in samples) {
+                    writer.write("${sample.startedAtMillis},${sample.format},${sample.adUnitId},${sample.networkName ?: ""},"
+                                         + "${sample.latencyMillis},${sample.isFilled},${if (sample.isFilled) "" else sample.errorCode}\n")
+                }
+            }
+
+            return file
+        }
+
+        private fun formatLoads(name: String, samples: List<Sample>): String {
+            val latencies = samples.map { it.latencyMillis }.sorted()
+            val filledCount = samples.count { it.isFilled }
+
+            return String.format(Locale.US, "%s: %d loads, %.1f%% filled, p50 %dms, p90 %dms, p99 %dms",
+                                 name,
+                                 samples.size,
+                                 100f * filledCount / samples.size,
+                                 percentile(latencies, 50),
+                                 percentile(latencies, 90),
+                                 percentile(latencies, 99))
+        }
+
+        /**
+         * The nearest-rank percentile of the given sorted values.
+         */
+        private fun percentile(sortedValues: List<Long>, percentile: Int): Long {
+            val rank = ceil(percentile / 100.0 * sortedValues.size).toInt()
+            return sortedValues[maxOf(0, rank - 1)]
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.loadtest
+
+import android.app.Activity
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.applovin.mediation.MaxAd
+import com.applovin.mediation.MaxAdFormat
+import com.applovin.mediation.MaxAdViewAdListener
+import com.applovin.mediation.MaxError
+import com.applovin.mediation.ads.MaxAdView
+import com.applovin.mediation.ads.MaxInterstitialAd
+import com.applovin.mediation.nativeAds.MaxNativeAdListener
+import com.applovin.mediation.nativeAds.MaxNativeAdLoader
+import com.applovin.mediation.nativeAds.MaxNativeAdView
+import java.util.concurrent.TimeUnit
+
+/**
+ * Keeps a fixed number of ad loads in flight for a given duration, cycling through the given ad units, and records the outcome of every load.
+ * <p>
+ * Every load uses a new ad object that is destroyed once the load completes. Rewarded ad units are not supported: the SDK shares one rewarded ad per ad
+ * unit, which keeps its loaded ad until it is shown, so repeated loads would only measure the cached ad. Must only be used from the main thread.
+ */
+class LoadTestRunner(
+        private val activity: Activity,
+        private val targets: List<Target>,
+        private val concurrency: Int,
+        durationSeconds: Long,
+        private val listener: Listener
+) {
+
+    enum class Format {
+        INTERSTITIAL, BANNER, MREC, NATIVE
+    }
+
+    class Target(val format: Format, val adUnitId: String)
+
+    interface Listener {
+        fun onProgress(results: LoadTestResults, loadsInFlight: Int)
+
+        fun onFinished(results: LoadTestResults)
+    }
+
+    private val durationMillis = TimeUnit.SECONDS.toMillis(durationSeconds)
+    private val results = LoadTestResults()
+    private val handler = Handler(Looper.getMainLooper())
+    private val loadsInFlight = mutableSetOf<LoadListener>()
+    private val publishProgressTask = object : Runnable {
+        override fun run() {
+            listener.onProgress(results, loadsInFlight.size)
+            handler.postDelayed(this, PROGRESS_INTERVAL_MILLIS)
+        }
+    }
+
+    private var deadlineMillis = 0L
+    private var nextTargetIndex = 0
+    private var isStopped = false
+    private var isFinished = false
+
+    fun start() {
+        deadlineMillis = SystemClock.elapsedRealtime() + durationMillis
+        repeat(concurrency) { startNextLoad() }
+
+        publishProgressTask.run()
+    }
+
+    /**
+     * Stop starting new loads. Loads that are already in flight are still recorded, and the listener is notified once they have all completed.
+     */
+    fun stop() {
+        isStopped = true
+        finishIfDone()
+    }
+
+    /**
+     * Stop right away, e.g. when the screen running the load test is destroyed. Progress is no longer published, the ad objects of the loads in flight
+     * are destroyed without recording them, and the listener is not notified.
+     */
+    fun cancel() {
+        isStopped = true
+        isFinished = true
+        handler.removeCallbacksAndMessages(null)
+
+        loadsInFlight.toList().forEach { it.cancel() }
+        loadsInFlight.clear()
+    }
+
+    private fun startNextLoad() {
+        if (isStopped || SystemClock.elapsedRealtime() >= deadlineMillis) {
+            finishIfDone()
+            return
+        }
+
+        val target = targets[nextTargetIndex]
+        nextTargetIndex = (nextTargetIndex + 1) % targets.size
+
+        val loadListener = LoadListener(target)
+        loadsInFlight.add(loadListener)
+        load(target, loadListener)
+    }
+
+    private fun load(target: Target, loadListener: LoadListener) {
+        when (target.format) {
+            Format.INTERSTITIAL -> {
+                val interstitialAd = MaxInterstitialAd(target.adUnitId, activity)
+                loadListener.onComplete = { interstitialAd.destroy() }
+                interstitialAd.setListener(loadListener)
+                interstitialAd.loadAd()
+            }
+            Format.BANNER, Format.MREC -> {
+                val adView = if (target.format == Format.MREC) MaxAdView(target.adUnitId, MaxAdFormat.MREC, activity) else MaxAdView(target.adUnitId, activity)
+                loadListener.onComplete = { adView.destroy() }
+                adView.setListener(loadListener)
+
+                // Only load a single ad, without refreshing it
+                adView.setExtraParameter("allow_pause_auto_refresh_immediately", "true")
+                adView.stopAutoRefresh()
+                adView.loadAd()
+            }
+            Format.NATIVE -> {
+                val nativeAdLoader = MaxNativeAdLoader(target.adUnitId, activity)
+                loadListener.onComplete = { nativeAdLoader.destroy() }
+                nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
+                    override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
+                        loadListener.onAdLoaded(ad)
+                        nativeAdLoader.destroy(ad)
+                    }
+
+                    override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
+                        loadListener.onAdLoadFailed(adUnitId, error)
+                    }
+
+                    override fun onNativeAdClicked(ad: MaxAd) {}
+                })
+                nativeAdLoader.loadAd()
+            }
+        }
+    }
+
+    private fun onLoadCompleted(loadListener: LoadListener) {
+        loadsInFlight.remove(loadListener)
+        startNextLoad()
+    }
+
+    private fun finishIfDone() {
+        if (loadsInFlight.isNotEmpty() || isFinished) return
+
+        isFinished = true
+        handler.removeCallbacksAndMessages(null)
+        listener.onFinished(results)
+    }
+
+    /**
+     * Records the outcome of a single load, then starts the next one.
+     */
+    private inner class LoadListener(private val target: Target) : MaxAdViewAdListener {
+        private val startedAtMillis = System.currentTimeMillis()
+        private val startedAtRealtimeMillis = SystemClock.elapsedRealtime()
+
+        // Releases the ad object used for this load
+        var onComplete: () -> Unit = {}
+        private var isCompleted = false
+
+        override fun onAdLoaded(ad: MaxAd?) {
+            complete(ad?.networkName, true, 0)
+        }
+
+        override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
+            complete(null, false, error?.code ?: 0)
+        }
+
+        private fun complete(networkName: String?, isFilled: Boolean, errorCode: Int) {
+            // Ad views may report more than one load, e.g. if they refresh before being destroyed
+            if (isCompleted) return
+
+            isCompleted = true
+
+            val latencyMillis = SystemClock.elapsedRealtime() - startedAtRealtimeMillis
+            results.add(LoadTestResults.Sample(startedAtMillis, target.format, target.adUnitId, networkName, latencyMillis, isFilled, errorCode))
+
+            // Release the ad object once the SDK has returned from this callback
+            handler.post {
+                onComplete()
+                onLoadCompleted(this)
+            }
+        }
+
+        fun cancel() {
+            // Still in flight until the posted release has run, so release the ad object here
+            isCompleted = true
+            onComplete()
+        }
+
+        override fun onAdDisplayed(ad: MaxAd?) {}
+
+        override fun onAdHidden(ad: MaxAd?) {}
+
+        override fun onAdClicked(ad: MaxAd?) {}
+
+        override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {}
+
+        override fun onAdExpanded(ad: MaxAd?) {}
+
+        override fun onAdCollapsed(ad: MaxAd?) {}
+    }
+
+    companion object {
+        private const val PROGRESS_INTERVAL_MILLIS = 500L
+    }
+}
@@ -1,10 +1,9 @@
 package com.applovin.enterprise.apps.demoapp.ads.max.mrecs
 
 import android.os.Bundle
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
+import com.applovin.enterprise.apps.demoapp.ads.AdViewRefreshController
 
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
@@ -20,6 +19,7 @@ import kotlinx.android.synthetic.main.activity_layout_editor_mrec_ad.*
  * Created by Andrew Tian on 2020-01-14.
  */
 class LayoutEditorMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdRevenueListener {
+    private lateinit var adViewRefreshController: AdViewRefreshController
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -32,40 +32,46 @@ class LayoutEditorMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdR
 
         // Load the first ad.
         mrec_ad_view.loadAd()
+
+        // Pause auto-refresh while the ad is off-screen, covered or in the background, and resume it once the ad is visible again.
+        adViewRefreshController = AdViewRefreshController(mrec_ad_view, this) { isAutoRefreshing ->
+            val state = if (isAutoRefreshing) "Auto-refresh resumed" else "Auto-refresh paused"
+            supportActionBar?.subtitle = state + ": " + adViewRefreshController.stats
+        }
     }
 
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -73,15 +79,9 @@ class LayoutEditorMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdR
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+        logCallback("onAdRevenuePaid")
 
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
     }
 
     //endregion
@@ -5,10 +5,9 @@ import android.os.Bundle
 import androidx.constraintlayout.widget.ConstraintLayout
 import androidx.constraintlayout.widget.ConstraintSet
 import androidx.core.view.ViewCompat
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
+import com.applovin.enterprise.apps.demoapp.ads.AdViewRefreshController
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.*
 import com.applovin.mediation.ads.MaxAdView
@@ -22,6 +21,7 @@ import com.applovin.sdk.AppLovinSdkUtils
  */
 class ProgrammaticMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdRevenueListener {
     private var adView: MaxAdView? = null
+    private lateinit var adViewRefreshController: AdViewRefreshController
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
         setContentView(R.layout.activity_programmatic_mrec_ad)
@@ -71,40 +71,46 @@ class ProgrammaticMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdR
 
         // Load the first ad.
         adView!!.loadAd()
+
+        // Pause auto-refresh while the ad is off-screen, covered or in the background, and resume it once the ad is visible again.
+        adViewRefreshController = AdViewRefreshController(adView!!, this) { isAutoRefreshing ->
+            val state = if (isAutoRefreshing) "Auto-refresh resumed" else "Auto-refresh paused"
+            supportActionBar?.subtitle = state + ": " + adViewRefreshController.stats
+        }
     }
 
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -112,15 +118,9 @@ class ProgrammaticMrecAdActivity : BaseAdActivity(), MaxAdViewAdListener, MaxAdR
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
-
-        val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-        adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-        adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-        adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-        adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+        logCallback("onAdRevenuePaid")
 
-        Adjust.trackAdRevenue(adjustAdRevenue)
+        ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
     }
 
     //endregion
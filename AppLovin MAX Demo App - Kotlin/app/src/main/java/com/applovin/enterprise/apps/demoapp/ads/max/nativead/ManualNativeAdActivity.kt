@@ -3,10 +3,8 @@ package com.applovin.enterprise.apps.demoapp.ads.max.nativead
 import android.os.Bundle
 import android.view.View
 import android.widget.FrameLayout
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
 import com.applovin.mediation.MaxAdRevenueListener
@@ -18,10 +16,12 @@ import com.applovin.mediation.nativeAds.MaxNativeAdViewBinder
 
 class ManualNativeAdActivity : BaseAdActivity() {
     private lateinit var nativeAdLoader: MaxNativeAdLoader
-    private lateinit var nativeAdView: MaxNativeAdView
     private lateinit var nativeAdLayout: FrameLayout
+    private lateinit var nativeAdViewPool: NativeAdViewPool
 
     private var nativeAd: MaxAd? = null
+    private var nativeAdView: MaxNativeAdView? = null
+    private var loadingNativeAdView: MaxNativeAdView? = null
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -40,45 +40,51 @@ class ManualNativeAdActivity : BaseAdActivity() {
                 .setOptionsContentViewGroupId(R.id.options_view)
                 .setCallToActionButtonId(R.id.cta_button)
                 .build()
-        nativeAdView = MaxNativeAdView(binder, this)
+
+        // Reuse native ad views across reloads instead of inflating the binder layout for every ad
+        nativeAdViewPool = NativeAdViewPool(this, binder, NATIVE_AD_VIEW_POOL_CAPACITY)
+        nativeAdViewPool.prewarm()
 
         nativeAdLoader = MaxNativeAdLoader("YOUR_AD_UNIT_ID", this)
         nativeAdLoader.setRevenueListener(object : MaxAdRevenueListener {
             override fun onAdRevenuePaid(ad: MaxAd?) {
-                logCallback()
-
-                val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-                adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-                adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-                adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-                adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+                logCallback("onAdRevenuePaid")
 
-                Adjust.trackAdRevenue(adjustAdRevenue)
+                ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
             }
         })
         nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
             override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoaded")
 
-                // Cleanup any pre-existing native ad to prevent memory leaks.
+                // Cleanup any pre-existing native ad to prevent memory leaks, then return its view to the pool.
                 if (nativeAd != null) {
                     nativeAdLoader.destroy(nativeAd)
                 }
+                this@ManualNativeAdActivity.nativeAdView?.let { nativeAdViewPool.release(it) }
 
-                // Save ad for cleanup.
+                // Save ad and its view for cleanup.
                 nativeAd = ad
+                this@ManualNativeAdActivity.nativeAdView = nativeAdView
+                loadingNativeAdView = null
 
                 // Add ad view to view.
                 nativeAdLayout.removeAllViews()
                 nativeAdLayout.addView(nativeAdView)
+
+                updateViewPoolStats()
             }
 
             override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoadFailed")
+
+                // Nothing was rendered into the view, so it can be reused right away.
+                loadingNativeAdView?.let { nativeAdViewPool.release(it) }
+                loadingNativeAdView = null
             }
 
             override fun onNativeAdClicked(ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdClicked")
             }
         })
     }
@@ -97,6 +103,19 @@ class ManualNativeAdActivity : BaseAdActivity() {
     }
 
     fun showAd(view: View) {
-        nativeAdLoader.loadAd(nativeAdView)
+        // Wait for the ad in flight to load before loading another one.
+        if (loadingNativeAdView != null) return
+
+        val adView = nativeAdViewPool.acquire()
+        loadingNativeAdView = adView
+        nativeAdLoader.loadAd(adView)
+    }
+
+    private fun updateViewPoolStats() {
+        supportActionBar?.subtitle = "View pool: " + nativeAdViewPool.getStats()
+    }
+
+    companion object {
+        private const val NATIVE_AD_VIEW_POOL_CAPACITY = 2
     }
 }
\ No newline at end of file
@@ -4,10 +4,8 @@ import android.os.Bundle
 import android.view.View
 import android.widget.Button
 import android.widget.FrameLayout
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
 import com.applovin.mediation.MaxAdRevenueListener
@@ -21,8 +19,10 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
     private lateinit var nativeAdLoader: MaxNativeAdLoader
     private lateinit var nativeAdLayout: FrameLayout
     private lateinit var showAdButton: Button
+    private lateinit var nativeAdViewPool: NativeAdViewPool
 
     private var nativeAd: MaxAd? = null
+    private var nativeAdView: MaxNativeAdView? = null
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -33,28 +33,28 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
         showAdButton = findViewById(R.id.show_ad_button)
         setupCallbacksRecyclerView()
 
+        // Reuse native ad views across reloads instead of inflating the binder layout for every ad
+        nativeAdViewPool = NativeAdViewPool(this, createNativeAdViewBinder(), NATIVE_AD_VIEW_POOL_CAPACITY)
+        nativeAdViewPool.prewarm()
+
         nativeAdLoader = MaxNativeAdLoader("2ae08312099b9acb", this)
         nativeAdLoader.setRevenueListener(object : MaxAdRevenueListener {
             override fun onAdRevenuePaid(ad: MaxAd?) {
-                logAnonymousCallback()
-
-                val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-                adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-                adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-                adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-                adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
+                logCallback("onAdRevenuePaid")
 
-                Adjust.trackAdRevenue(adjustAdRevenue)
+                ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
             }
         })
         nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
             override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoaded")
 
-                // Cleanup any pre-existing native ad to prevent memory leaks.
+                // Cleanup any pre-existing native ad to prevent memory leaks, then return its view to the pool.
                 if (nativeAd != null) {
                     nativeAdLoader.destroy(nativeAd)
                 }
+                this@ManualNativeLateBindingAdActivity.nativeAdView?.let { nativeAdViewPool.release(it) }
+                this@ManualNativeLateBindingAdActivity.nativeAdView = null
 
                 // Save ad to be rendered later.
                 nativeAd = ad
@@ -63,11 +63,11 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
             }
 
             override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoadFailed")
             }
 
             override fun onNativeAdClicked(ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdClicked")
             }
         })
     }
@@ -92,15 +92,18 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
     }
 
     fun showAd(view: View) {
-        val adView = createNativeAdView()
+        val adView = nativeAdViewPool.acquire()
+        nativeAdView = adView
         // Render the ad separately
         nativeAdLoader.render(adView, nativeAd)
         nativeAdLayout.addView(adView)
         showAdButton.isEnabled = false
+
+        updateViewPoolStats()
     }
 
-    private fun createNativeAdView(): MaxNativeAdView {
-        val binder: MaxNativeAdViewBinder = MaxNativeAdViewBinder.Builder(R.layout.native_custom_ad_view)
+    private fun createNativeAdViewBinder(): MaxNativeAdViewBinder {
+        return MaxNativeAdViewBinder.Builder(R.layout.native_custom_ad_view)
                 .setTitleTextViewId(R.id.title_text_view)
                 .setBodyTextViewId(R.id.body_text_view)
                 .setAdvertiserTextViewId(R.id.advertiser_textView)
@@ -109,6 +112,13 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
                 .setOptionsContentViewGroupId(R.id.options_view)
                 .setCallToActionButtonId(R.id.cta_button)
                 .build()
-        return MaxNativeAdView(binder, this)
+    }
+
+    private fun updateViewPoolStats() {
+        supportActionBar?.subtitle = "View pool: " + nativeAdViewPool.getStats()
+    }
+
+    companion object {
+        private const val NATIVE_AD_VIEW_POOL_CAPACITY = 2
     }
 }
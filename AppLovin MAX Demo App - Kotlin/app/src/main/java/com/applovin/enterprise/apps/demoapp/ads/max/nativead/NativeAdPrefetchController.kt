@@ -0,0 +1,115 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead
+
+import android.os.SystemClock
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import com.applovin.mediation.nativeAds.adPlacer.MaxAdPlacer
+import com.applovin.mediation.nativeAds.adPlacer.MaxRecyclerAdapter
+import kotlin.math.abs
+import kotlin.math.roundToInt
+
+/**
+ * Adjusts how far ahead of the visible range [MaxRecyclerAdapter] loads native ads based on scroll velocity, and keeps count of the ads in memory vs.
+ * the ads currently on screen. The counters are reported only when one of them changes, not on every scrolled frame.
+ * <p>
+ * When the list is idle or scrolled slowly, ads are only requested [minLookAhead] items ahead of the visible range. The faster the user flings, the
+ * further ahead ads are requested (up to [maxLookAhead] items), so that ads are ready by the time their slot scrolls into view.
+ */
+class NativeAdPrefetchController(
+        private val adAdapter: MaxRecyclerAdapter,
+        private val layoutManager: LinearLayoutManager,
+        private val minLookAhead: Int,
+        private val maxLookAhead: Int,
+        private val onCountersChanged: (adsInMemory: Int, adsDisplayed: Int, lookAhead: Int) -> Unit
+) : RecyclerView.OnScrollListener() {
+
+    private var lookAhead = 0
+    private var adsInMemory = 0
+    private var reportedAdsInMemory = -1
+    private var reportedAdsDisplayed = -1
+    private var reportedLookAhead = -1
+    private var lastFirstVisiblePosition = RecyclerView.NO_POSITION
+    private var lastScrollTimeMillis = 0L
+    private var itemsPerSecond = 0f
+
+    init {
+        setLookAhead(minLookAhead)
+    }
+
+    /**
+     * Call from [MaxAdPlacer.Listener.onAdLoaded].
+     */
+    fun onAdLoaded() {
+        adsInMemory++
+        notifyCountersChanged()
+    }
+
+    /**
+     * Call from [MaxAdPlacer.Listener.onAdRemoved].
+     */
+    fun onAdRemoved() {
+        adsInMemory = maxOf(0, adsInMemory - 1)
+        notifyCountersChanged()
+    }
+
+    override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        val firstVisiblePosition = layoutManager.findFirstVisibleItemPosition()
+        val nowMillis = SystemClock.uptimeMillis()
+
+        if (lastFirstVisiblePosition != RecyclerView.NO_POSITION && nowMillis > lastScrollTimeMillis) {
+            val latestItemsPerSecond = abs(firstVisiblePosition - lastFirstVisiblePosition) * 1000f / (nowMillis - lastScrollTimeMillis)
+            itemsPerSecond += VELOCITY_SMOOTHING * (latestItemsPerSecond - itemsPerSecond)
+        }
+
+        lastFirstVisiblePosition = firstVisiblePosition
+        lastScrollTimeMillis = nowMillis
+
+        setLookAhead(minLookAhead + (itemsPerSecond * PREFETCH_WINDOW_SECONDS).roundToInt())
+        notifyCountersChanged()
+    }
+
+    override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            itemsPerSecond = 0f
+            lastFirstVisiblePosition = RecyclerView.NO_POSITION
+
+            setLookAhead(minLookAhead)
+            notifyCountersChanged()
+        }
+    }
+
+    private fun setLookAhead(requestedLookAhead: Int) {
+        val newLookAhead = requestedLookAhead.coerceIn(minLookAhead, maxLookAhead)
+        if (newLookAhead == lookAhead) return
+
+        lookAhead = newLookAhead
+        adAdapter.setLookAhead(lookAhead)
+    }
+
+    private fun notifyCountersChanged() {
+        val adsDisplayed = countDisplayedAds()
+        if (adsInMemory == reportedAdsInMemory && adsDisplayed == reportedAdsDisplayed && lookAhead == reportedLookAhead) return
+
+        reportedAdsInMemory = adsInMemory
+        reportedAdsDisplayed = adsDisplayed
+        reportedLookAhead = lookAhead
+
+        onCountersChanged(adsInMemory, adsDisplayed, lookAhead)
+    }
+
+    private fun countDisplayedAds(): Int {
+        val firstVisiblePosition = layoutManager.findFirstVisibleItemPosition()
+        val lastVisiblePosition = layoutManager.findLastVisibleItemPosition()
+        if (firstVisiblePosition == RecyclerView.NO_POSITION) return 0
+
+        val adPlacer = adAdapter.adPlacer
+        return (firstVisiblePosition..lastVisiblePosition).count { adPlacer.isFilledPosition(it) }
+    }
+
+    companion object {
+        // How many seconds of scrolling at the current velocity to prefetch ads for
+        private const val PREFETCH_WINDOW_SECONDS = 1.5f
+        // Weight of the latest sample when smoothing the scroll velocity
+        private const val VELOCITY_SMOOTHING = 0.3f
+    }
+}
@@ -0,0 +1,93 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead
+
+import android.app.Activity
+import android.os.Looper
+import android.view.ViewGroup
+import com.applovin.mediation.nativeAds.MaxNativeAdView
+import com.applovin.mediation.nativeAds.MaxNativeAdViewBinder
+import java.util.ArrayDeque
+import java.util.Locale
+import java.util.concurrent.TimeUnit
+
+/**
+ * A pool of [MaxNativeAdView]s for a single [MaxNativeAdViewBinder] layout, so that reloading native ads reuses views instead of inflating
+ * the binder layout every time.
+ * <p>
+ * Views are pre-created while the main thread is idle. Hand out a view with [acquire], and return it with [release] once the native ad rendered into
+ * it has been destroyed. Reused views have their asset views cleared, so an ad missing an asset never shows the previous ad's. The pool holds views of the given activity, so it must not outlive it. Must only be used from the main thread.
+ */
+class NativeAdViewPool(
+        private val activity: Activity,
+        private val binder: MaxNativeAdViewBinder,
+        private val capacity: Int
+) {
+
+    private val pooledViews = ArrayDeque<MaxNativeAdView>()
+
+    private var createdViewCount = 0
+    private var reusedViewCount = 0
+    private var totalInflationNanos = 0L
+
+    /**
+     * Create views until the pool is full, one per idle pass of the main thread so that pre-creating them does not cause dropped frames.
+     */
+    fun prewarm() {
+        Looper.myQueue().addIdleHandler {
+            if (activity.isFinishing || pooledViews.size >= capacity) return@addIdleHandler false
+
+            pooledViews.push(createView())
+            pooledViews.size < capacity
+        }
+    }
+
+    /**
+     * A view from the pool with its asset views cleared, or a newly inflated one if the pool is empty.
+     */
+    fun acquire(): MaxNativeAdView {
+        val view = pooledViews.poll() ?: return createView()
+
+        resetAssetViews(view)
+        reusedViewCount++
+        return view
+    }
+
+    /**
+     * Return a view to the pool. Must only be called once the native ad rendered into the view has been destroyed.
+     */
+    fun release(view: MaxNativeAdView) {
+        (view.parent as? ViewGroup)?.removeView(view)
+
+        if (pooledViews.size < capacity && !pooledViews.contains(view)) {
+            pooledViews.push(view)
+        }
+    }
+
+    /**
+     * A summary of the views created vs. reused, and the inflation time saved by reusing views.
+     */
+    fun getStats(): String {
+        val averageInflationNanos = if (createdViewCount > 0) totalInflationNanos / createdViewCount else 0
+        val nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1).toFloat()
+        return String.format(Locale.US, "%d views inflated (avg %.2fms), %d reused (~%.2fms saved)",
+                             createdViewCount,
+                             averageInflationNanos / nanosPerMilli,
+                             reusedViewCount,
+                             reusedViewCount * averageInflationNanos / nanosPerMilli)
+    }
+
+    private fun resetAssetViews(view: MaxNativeAdView) {
+        listOf(view.titleTextView, view.advertiserTextView, view.bodyTextView, view.callToActionButton).forEach { it?.text = null }
+        view.iconImageView?.setImageDrawable(null)
+        view.mediaContentViewGroup?.removeAllViews()
+        view.optionsContentViewGroup?.removeAllViews()
+    }
+
+    private fun createView(): MaxNativeAdView {
+        val startNanos = System.nanoTime()
+        val view = MaxNativeAdView(binder, activity)
+        totalInflationNanos += System.nanoTime() - startNanos
+        createdViewCount++
+
+        return view
+    }
+}
@@ -0,0 +1,33 @@
+package com.applovin.enterprise.apps.demoapp.ads.max.nativead
+
+/**
+ * A large, read-only list of sample items that is materialized one page at a time, like a feed backed by a paged API would be.
+ * <p>
+ * Only the most recently accessed pages are kept in memory, so the size of the list does not affect the memory used by the demo.
+ */
+class PagedSampleDataSource(override val size: Int) : AbstractList<String>() {
+
+    private val cachedPages = object : LinkedHashMap<Int, Array<String>>(MAX_CACHED_PAGES, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Int, Array<String>>?): Boolean {
+            return size > MAX_CACHED_PAGES
+        }
+    }
+
+    override fun get(index: Int): String {
+        if (index < 0 || index >= size) throw IndexOutOfBoundsException("Index: $index, size: $size")
+
+        val pageIndex = index / PAGE_SIZE
+        val page = cachedPages.getOrPut(pageIndex) { loadPage(pageIndex) }
+        return page[index % PAGE_SIZE]
+    }
+
+    private fun loadPage(pageIndex: Int): Array<String> {
+        val firstIndex = pageIndex * PAGE_SIZE
+        return Array(minOf(PAGE_SIZE, size - firstIndex)) { i -> "Item ${firstIndex + i + 1}" }
+    }
+
+    companion object {
+        private const val PAGE_SIZE = 50
+        private const val MAX_CACHED_PAGES = 8
+    }
+}
@@ -17,8 +17,9 @@ import com.applovin.mediation.nativeAds.adPlacer.MaxRecyclerAdapter
 
 class RecyclerViewNativeAdActivity : AppCompatActivity() {
 
-    private val sampleData = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".chunked(1)
+    private val sampleData = PagedSampleDataSource(SAMPLE_DATA_SIZE)
     private lateinit var adAdapter: MaxRecyclerAdapter
+    private lateinit var prefetchController: NativeAdPrefetchController
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
@@ -32,14 +33,19 @@ class RecyclerViewNativeAdActivity : AppCompatActivity() {
         settings.addFixedPosition(2)
         settings.addFixedPosition(8)
         settings.repeatingInterval = 6
+        settings.maxAdCount = MAX_AD_COUNT
 
         // If using custom views, you must also set the nativeAdViewBinder on the adapter
 
         adAdapter = MaxRecyclerAdapter(settings, originalAdapter, this)
         adAdapter.setListener(object : MaxAdPlacer.Listener {
-            override fun onAdLoaded(position: Int) {}
+            override fun onAdLoaded(position: Int) {
+                prefetchController.onAdLoaded()
+            }
 
-            override fun onAdRemoved(position: Int) {}
+            override fun onAdRemoved(position: Int) {
+                prefetchController.onAdRemoved()
+            }
 
             override fun onAdClicked(ad: MaxAd?) {}
 
@@ -47,9 +53,17 @@ class RecyclerViewNativeAdActivity : AppCompatActivity() {
         })
 
         // Configure recycler view
+        val layoutManager = LinearLayoutManager(this)
         val recyclerView = findViewById<RecyclerView>(R.id.recycler_view)
         recyclerView.adapter = adAdapter
-        recyclerView.layoutManager = LinearLayoutManager(this)
+        recyclerView.layoutManager = layoutManager
+
+        // Request ads further ahead of the visible range the faster the list is scrolled
+        val countersTextView = findViewById<TextView>(R.id.ad_counters_text_view)
+        prefetchController = NativeAdPrefetchController(adAdapter, layoutManager, MIN_LOOK_AHEAD, MAX_LOOK_AHEAD) { adsInMemory, adsDisplayed, lookAhead ->
+            countersTextView.text = getString(R.string.native_ad_counters, adsInMemory, adsDisplayed, lookAhead)
+        }
+        recyclerView.addOnScrollListener(prefetchController)
 
         adAdapter.loadAds()
     }
@@ -79,4 +93,13 @@ class RecyclerViewNativeAdActivity : AppCompatActivity() {
         }
 
     }
+
+    companion object {
+        // Emulate a long feed to show how ads are placed and prefetched while scrolling through it
+        private const val SAMPLE_DATA_SIZE = 100_000
+        private const val MIN_LOOK_AHEAD = 4
+        private const val MAX_LOOK_AHEAD = 24
+        // Ads scrolled far behind the visible range are not released, so bound how many ads are placed in the feed
+        private const val MAX_AD_COUNT = 64
+    }
 }
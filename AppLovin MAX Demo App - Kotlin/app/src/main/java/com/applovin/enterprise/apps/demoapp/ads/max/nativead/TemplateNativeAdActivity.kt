@@ -3,10 +3,8 @@ package com.applovin.enterprise.apps.demoapp.ads.max.nativead
 import android.os.Bundle
 import android.view.View
 import android.widget.FrameLayout
-import com.adjust.sdk.Adjust
-import com.adjust.sdk.AdjustAdRevenue
-import com.adjust.sdk.AdjustConfig
 import com.applovin.enterprise.apps.demoapp.R
+import com.applovin.enterprise.apps.demoapp.ads.AdRevenuePipeline
 import com.applovin.enterprise.apps.demoapp.ui.BaseAdActivity
 import com.applovin.mediation.MaxAd
 import com.applovin.mediation.MaxAdRevenueListener
@@ -32,20 +30,14 @@ class TemplateNativeAdActivity : BaseAdActivity() {
         nativeAdLoader = MaxNativeAdLoader("YOUR_AD_UNIT_ID", this)
         nativeAdLoader.setRevenueListener(object : MaxAdRevenueListener {
             override fun onAdRevenuePaid(ad: MaxAd?) {
-                logCallback()
+                logCallback("onAdRevenuePaid")
 
-                val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
-                adjustAdRevenue.setRevenue(ad?.revenue, "USD")
-                adjustAdRevenue.setAdRevenueNetwork(ad?.networkName)
-                adjustAdRevenue.setAdRevenueUnit(ad?.adUnitId)
-                adjustAdRevenue.setAdRevenuePlacement(ad?.placement)
-
-                Adjust.trackAdRevenue(adjustAdRevenue)
+                ad?.let { AdRevenuePipeline.getInstance(applicationContext).track(it) }
             }
         })
         nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
             override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoaded")
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if (nativeAd != null) {
@@ -61,11 +53,11 @@ class TemplateNativeAdActivity : BaseAdActivity() {
             }
 
             override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoadFailed")
             }
 
             override fun onNativeAdClicked(ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdClicked")
             }
         })
     }
@@ -1,5 +1,6 @@
 package com.applovin.enterprise.apps.demoapp.ui
 
+import android.view.Choreographer
 import androidx.appcompat.app.AppCompatActivity
 import androidx.recyclerview.widget.DividerItemDecoration
 import androidx.recyclerview.widget.LinearLayoutManager
@@ -12,15 +13,20 @@ import kotlinx.android.synthetic.main.activity_interstitial_ad.*
  */
 abstract class BaseAdActivity : AppCompatActivity()
 {
-    private lateinit var callbacksAdapter: CallbacksRecyclerViewAdapter
-    private val callbacks: MutableList<String> = mutableListOf()
+    private val callbackLog = CallbackLog(CALLBACK_LOG_CAPACITY)
+    private val publishCallbacksFrameCallback = Choreographer.FrameCallback { publishCallbacks() }
+
+    private var callbacksAdapter: CallbacksRecyclerViewAdapter? = null
+    private var isPublishScheduled = false
+    private var hasPendingEvictions = false
 
     /**
      * Setup callbacks RecyclerView adapter and appearance.
      */
     protected fun setupCallbacksRecyclerView()
     {
-        callbacksAdapter = CallbacksRecyclerViewAdapter(callbacks, this)
+        val callbacksAdapter = CallbacksRecyclerViewAdapter(callbackLog, this)
+        this.callbacksAdapter = callbacksAdapter
         val manager = LinearLayoutManager(this)
         val decoration = DividerItemDecoration(this, manager.orientation)
 
@@ -32,23 +38,41 @@ abstract class BaseAdActivity : AppCompatActivity()
         }
     }
 
+    override fun onDestroy()
+    {
+        Choreographer.getInstance().removeFrameCallback(publishCallbacksFrameCallback)
+
+        super.onDestroy()
+    }
+
     /**
-     * Log ad callbacks in the RecyclerView.
-     * Uses the name of the function that calls this one in the log.
+     * Log ad callbacks in the RecyclerView. Callbacks are published to the RecyclerView at most once per frame.
+     *
+     * @param callbackName The name of the callback, e.g. "onAdLoaded".
      */
-    protected fun logCallback()
+    protected fun logCallback(callbackName: String)
     {
-        val callbackName = Throwable().stackTrace[1].methodName
-        callbacks.add(callbackName)
+        if (callbackLog.add(callbackName, System.currentTimeMillis()))
+        {
+            hasPendingEvictions = true
+        }
 
-        callbacksAdapter.notifyItemInserted(callbacks.lastIndex)
+        if (!isPublishScheduled)
+        {
+            isPublishScheduled = true
+            Choreographer.getInstance().postFrameCallback(publishCallbacksFrameCallback)
+        }
     }
 
-    protected fun logAnonymousCallback()
+    private fun publishCallbacks()
     {
-        val callbackName = Throwable().stackTrace[2].methodName
-        callbacks.add(callbackName)
+        isPublishScheduled = false
+        callbacksAdapter?.publish(hasPendingEvictions)
+        hasPendingEvictions = false
+    }
 
-        callbacksAdapter.notifyItemInserted(callbacks.lastIndex)
+    companion object
+    {
+        private const val CALLBACK_LOG_CAPACITY = 200
     }
 }
@@ -0,0 +1,41 @@
+package com.applovin.enterprise.apps.demoapp.ui
+
+/**
+ * Fixed-capacity ring buffer of ad callback names and the time they were received. Once full, the oldest entry is overwritten.
+ * Must only be accessed from the main thread.
+ */
+class CallbackLog(capacity: Int)
+{
+    private val names = arrayOfNulls<String>(capacity)
+    private val timestamps = LongArray(capacity)
+
+    private var start = 0
+
+    var size = 0
+        private set
+
+    /**
+     * Record a callback.
+     *
+     * @return `true` if the oldest entry was evicted to make room.
+     */
+    fun add(name: String, timestampMillis: Long): Boolean
+    {
+        val index = (start + size) % names.size
+        names[index] = name
+        timestamps[index] = timestampMillis
+
+        if (size < names.size)
+        {
+            size++
+            return false
+        }
+
+        start = (start + 1) % names.size
+        return true
+    }
+
+    fun getName(position: Int): String = names[(start + position) % names.size]!!
+
+    fun getTimestamp(position: Int): Long = timestamps[(start + position) % timestamps.size]
+}
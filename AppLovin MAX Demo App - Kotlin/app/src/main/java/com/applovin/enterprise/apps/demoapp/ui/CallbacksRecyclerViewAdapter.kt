@@ -8,16 +8,43 @@ import android.widget.TextView
 import androidx.recyclerview.widget.RecyclerView
 
 import com.applovin.enterprise.apps.demoapp.R
+import java.text.SimpleDateFormat
+import java.util.Date
+import java.util.Locale
 
 /**
  * [RecyclerView.Adapter] for the callback RecyclerView in ad activities.
  * <p>
  * Created by Harry Arakkal on 2019-10-18.
  */
-class CallbacksRecyclerViewAdapter(private val callbacks: List<String>, context: Context)
+class CallbacksRecyclerViewAdapter(private val callbackLog: CallbackLog, context: Context)
     : RecyclerView.Adapter<CallbacksRecyclerViewAdapter.ViewHolder>()
 {
     private val layoutInflater: LayoutInflater = LayoutInflater.from(context)
+    private val timestampFormat = SimpleDateFormat("HH:mm:ss.SSS", Locale.US)
+
+    // Only callbacks that have been published are visible to the RecyclerView
+    private var publishedCount = 0
+
+    /**
+     * Notify the RecyclerView of all callbacks logged since the last publish.
+     *
+     * @param evicted Whether any of the previously published callbacks were evicted from the log.
+     */
+    fun publish(evicted: Boolean)
+    {
+        val previousCount = publishedCount
+        publishedCount = callbackLog.size
+
+        if (evicted)
+        {
+            notifyDataSetChanged()
+        }
+        else if (publishedCount > previousCount)
+        {
+            notifyItemRangeInserted(previousCount, publishedCount - previousCount)
+        }
+    }
 
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): ViewHolder
     {
@@ -26,12 +53,13 @@ class CallbacksRecyclerViewAdapter(private val callbacks: List<String>, context:
 
     override fun onBindViewHolder(holder: ViewHolder, position: Int)
     {
-        holder.callbackName.text = callbacks[position]
+        val timestamp = timestampFormat.format(Date(callbackLog.getTimestamp(position)))
+        holder.callbackName.text = "$timestamp  ${callbackLog.getName(position)}"
     }
 
     override fun getItemCount(): Int
     {
-        return callbacks.count()
+        return publishedCount
     }
 
     inner class ViewHolder(view: View) : RecyclerView.ViewHolder(view)
@@ -8,6 +8,7 @@ import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.view.View;
 import android.widget.ImageView;
@@ -47,18 +48,28 @@ import com.bytedance.sdk.openadsdk.TTNativeAd;
 import com.bytedance.sdk.openadsdk.TTNativeExpressAd;
 import com.bytedance.sdk.openadsdk.TTRewardVideoAd;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import androidx.annotation.Nullable;
 
@@ -129,6 +140,7 @@ public class ByteDanceMediationAdapter
     private static       InitializationStatus status;
     private static final int                  DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS = 10;
     private static final ExecutorService      executor                           = Executors.newCachedThreadPool();
+    private static final ErrorTelemetry       errorTelemetry                     = new ErrorTelemetry();
 
     private TTFullScreenVideoAd interstitialAd;
     private TTRewardVideoAd     rewardedAd;
@@ -151,7 +163,7 @@ public class ByteDanceMediationAdapter
             status = InitializationStatus.INITIALIZING;
             final Bundle serverParameters = parameters.getServerParameters();
             final String appId = serverParameters.getString( "app_id" );
-            log( "Initializing SDK with app id: " + appId + "..." );
+            log( "Initializing SDK with app id: {}...", appId );
 
             TTAdConfig.Builder builder = new TTAdConfig.Builder();
 
@@ -203,7 +215,7 @@ public class ByteDanceMediationAdapter
                 @Override
                 public void fail(int code, String msg)
                 {
-                    log( "SDK failed to initialize with code: " + code + " and message: " + msg );
+                    log( "SDK failed to initialize with code: {} and message: {}", code, msg );
 
                     status = InitializationStatus.INITIALIZED_FAILURE;
                     onCompletionListener.onCompletion( status, msg );
@@ -277,7 +289,7 @@ public class ByteDanceMediationAdapter
     {
         String codeId = parameters.getThirdPartyAdPlacementId();
         String bidResponse = parameters.getBidResponse();
-        log( "Loading " + ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ) + "interstitial ad for code id \"" + codeId + "\"..." );
+        log( "Loading {}interstitial ad for code id \"{}\"...", ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ), codeId );
 
         updateAdConfig( parameters );
 
@@ -302,7 +314,7 @@ public class ByteDanceMediationAdapter
     public void showInterstitialAd(final MaxAdapterResponseParameters parameters, final Activity activity, final MaxInterstitialAdapterListener listener)
     {
         String codeId = parameters.getThirdPartyAdPlacementId();
-        log( "Showing interstitial ad for code id \"" + codeId + "\"..." );
+        log( "Showing interstitial ad for code id \"{}\"...", codeId );
 
         interstitialAd.setFullScreenVideoAdInteractionListener( interstitialAdListener );
         interstitialAd.showFullScreenVideoAd( activity );
@@ -317,7 +329,7 @@ public class ByteDanceMediationAdapter
     {
         String codeId = parameters.getThirdPartyAdPlacementId();
         String bidResponse = parameters.getBidResponse();
-        log( "Loading " + ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ) + "rewarded ad for code id \"" + codeId + "\"..." );
+        log( "Loading {}rewarded ad for code id \"{}\"...", ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ), codeId );
 
         updateAdConfig( parameters );
 
@@ -344,7 +356,7 @@ public class ByteDanceMediationAdapter
     public void showRewardedAd(final MaxAdapterResponseParameters parameters, final Activity activity, final MaxRewardedAdapterListener listener)
     {
         String codeId = parameters.getThirdPartyAdPlacementId();
-        log( "Showing rewarded ad for code id \"" + codeId + "\"..." );
+        log( "Showing rewarded ad for code id \"{}\"...", codeId );
 
         // Configure userReward from server.
         configureReward( parameters );
@@ -363,7 +375,7 @@ public class ByteDanceMediationAdapter
         boolean isNative = parameters.getServerParameters().getBoolean( "is_native" );
         String bidResponse = parameters.getBidResponse();
         String codeId = parameters.getThirdPartyAdPlacementId();
-        log( "Loading " + ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ) + ( isNative ? "native " : "" ) + adFormat.getLabel() + " ad for code id \"" + codeId + "\"..." );
+        log( "Loading {}{}{} ad for code id \"{}\"...", ( AppLovinSdkUtils.isValidString( bidResponse ) ? "bidding " : "" ), ( isNative ? "native " : "" ), adFormat.getLabel(), codeId );
 
         updateAdConfig( parameters );
 
@@ -402,7 +414,7 @@ public class ByteDanceMediationAdapter
         String bidResponse = parameters.getBidResponse();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( bidResponse );
         String codeId = parameters.getThirdPartyAdPlacementId();
-        log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + "native ad for code id \"" + codeId + "\"..." );
+        log( "Loading {}native ad for code id \"{}\"...", ( isBiddingAd ? "bidding " : "" ), codeId );
 
         updateAdConfig( parameters );
 
@@ -538,9 +550,26 @@ public class ByteDanceMediationAdapter
                 break;
         }
 
+        errorTelemetry.record( byteDanceErrorCode, byteDanceErrorMessage, adapterError );
+
         return new MaxAdapterError( adapterError.getErrorCode(), adapterError.getErrorMessage(), byteDanceErrorCode, byteDanceErrorMessage );
     }
 
+    /**
+     * @return A JSON snapshot of how often each Pangle error code was mapped to each MAX error in the current process, along with a sample of the most recent raw error messages.
+     */
+    public static String getErrorTelemetryJson()
+    {
+        try
+        {
+            return errorTelemetry.toJson().toString();
+        }
+        catch ( JSONException exception )
+        {
+            return "{}";
+        }
+    }
+
     private Context getContext(@Nullable Activity activity)
     {
         // NOTE: `activity` can only be null in 11.1.0+, and `getApplicationContext()` is introduced in 11.1.0
@@ -568,6 +597,140 @@ public class ByteDanceMediationAdapter
 
     //endregion
 
+    //region Logging
+
+    // NOTE: Messages use "{}" placeholders and are only formatted when verbose logging is enabled, so disabled logs do not build strings on load, show and callback paths.
+
+    private void log(final String format, final Object arg1)
+    {
+        if ( isVerboseLoggingEnabled() ) log( formatLogMessage( format, arg1, null, null, null ) );
+    }
+
+    private void log(final String format, final Object arg1, final Object arg2)
+    {
+        if ( isVerboseLoggingEnabled() ) log( formatLogMessage( format, arg1, arg2, null, null ) );
+    }
+
+    private void log(final String format, final Object arg1, final Object arg2, final Object arg3)
+    {
+        if ( isVerboseLoggingEnabled() ) log( formatLogMessage( format, arg1, arg2, arg3, null ) );
+    }
+
+    private void log(final String format, final Object arg1, final Object arg2, final Object arg3, final Object arg4)
+    {
+        if ( isVerboseLoggingEnabled() ) log( formatLogMessage( format, arg1, arg2, arg3, arg4 ) );
+    }
+
+    private boolean isVerboseLoggingEnabled()
+    {
+        return getWrappingSdk().getSettings().isVerboseLoggingEnabled();
+    }
+
+    private static String formatLogMessage(final String format, final Object arg1, final Object arg2, final Object arg3, final Object arg4)
+    {
+        final StringBuilder builder = new StringBuilder( format.length() + 64 );
+
+        int start = 0;
+        int argIndex = 0;
+        int placeholderIndex;
+        while ( argIndex < 4 && ( placeholderIndex = format.indexOf( "{}", start ) ) != -1 )
+        {
+            builder.append( format, start, placeholderIndex );
+
+            switch ( argIndex++ )
+            {
+                case 0:
+                    builder.append( arg1 );
+                    break;
+                case 1:
+                    builder.append( arg2 );
+                    break;
+                case 2:
+                    builder.append( arg3 );
+                    break;
+                default:
+                    builder.append( arg4 );
+                    break;
+            }
+
+            start = placeholderIndex + 2;
+        }
+
+        builder.append( format, start, format.length() );
+
+        return builder.toString();
+    }
+
+    //endregion
+
+    /**
+     * Lock-free counters of (Pangle error code, MAX error code) pairs, with a fixed-size ring buffer of the most recent raw error messages.
+     */
+    private static class ErrorTelemetry
+    {
+        private static final int MAX_SAMPLED_MESSAGES = 32;
+
+        private final ConcurrentMap<String, AtomicLong> errorCounts         = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<String>      sampledMessages     = new AtomicReferenceArray<>( MAX_SAMPLED_MESSAGES );
+        private final AtomicInteger                     sampledMessageCount = new AtomicInteger();
+
+        void record(final int networkErrorCode, final String networkErrorMessage, final MaxAdapterError adapterError)
+        {
+            final String key = networkErrorCode + "_" + adapterError.getErrorCode();
+
+            AtomicLong errorCount = errorCounts.get( key );
+            if ( errorCount == null )
+            {
+                final AtomicLong newErrorCount = new AtomicLong();
+                errorCount = errorCounts.putIfAbsent( key, newErrorCount );
+                if ( errorCount == null )
+                {
+                    errorCount = newErrorCount;
+                }
+            }
+
+            errorCount.incrementAndGet();
+
+            if ( AppLovinSdkUtils.isValidString( networkErrorMessage ) )
+            {
+                final int index = ( sampledMessageCount.getAndIncrement() & Integer.MAX_VALUE ) % MAX_SAMPLED_MESSAGES;
+                sampledMessages.set( index, networkErrorCode + ": " + networkErrorMessage );
+            }
+        }
+
+        JSONObject toJson() throws JSONException
+        {
+            JSONArray errorsJson = new JSONArray();
+            for ( Map.Entry<String, AtomicLong> entry : errorCounts.entrySet() )
+            {
+                final String[] codes = entry.getKey().split( "_" );
+
+                JSONObject errorJson = new JSONObject();
+                errorJson.put( "network_error_code", Integer.parseInt( codes[0] ) );
+                errorJson.put( "max_error_code", Integer.parseInt( codes[1] ) );
+                errorJson.put( "count", entry.getValue().get() );
+                errorsJson.put( errorJson );
+            }
+
+            JSONArray messagesJson = new JSONArray();
+            for ( int i = 0; i < MAX_SAMPLED_MESSAGES; i++ )
+            {
+                final String message = sampledMessages.get( i );
+                if ( message != null )
+                {
+                    messagesJson.put( message );
+                }
+            }
+
+            JSONObject telemetryJson = new JSONObject();
+            telemetryJson.put( "network", "bytedance" );
+            telemetryJson.put( "errors", errorsJson );
+            telemetryJson.put( "sampled_messages", messagesJson );
+
+            return telemetryJson;
+        }
+    }
+
     private class InterstitialAdListener
             implements TTAdNative.FullScreenVideoAdListener, TTFullScreenVideoAd.FullScreenVideoAdInteractionListener
     {
@@ -585,7 +748,7 @@ public class ByteDanceMediationAdapter
         {
             interstitialAd = ad;
 
-            log( "Interstitial ad loaded: " + codeId );
+            log( "Interstitial ad loaded: {}", codeId );
             listener.onInterstitialAdLoaded();
         }
 
@@ -593,47 +756,47 @@ public class ByteDanceMediationAdapter
         public void onError(final int code, final String message)
         {
             MaxAdapterError adapterError = toMaxError( code, message );
-            log( "Interstitial ad (" + codeId + ") failed to load with error: " + adapterError );
+            log( "Interstitial ad ({}) failed to load with error: {}", codeId, adapterError );
             listener.onInterstitialAdLoadFailed( adapterError );
         }
 
         @Override
         public void onFullScreenVideoCached()
         {
-            log( "Interstitial ad cached: " + codeId );
+            log( "Interstitial ad cached: {}", codeId );
         }
 
         @Override
         public void onAdShow()
         {
-            log( "Interstitial ad displayed: " + codeId );
+            log( "Interstitial ad displayed: {}", codeId );
             listener.onInterstitialAdDisplayed();
         }
 
         @Override
         public void onAdVideoBarClick()
         {
-            log( "Interstitial ad clicked: " + codeId );
+            log( "Interstitial ad clicked: {}", codeId );
             listener.onInterstitialAdClicked();
         }
 
         @Override
         public void onAdClose()
         {
-            log( "Interstitial ad hidden: " + codeId );
+            log( "Interstitial ad hidden: {}", codeId );
             listener.onInterstitialAdHidden();
         }
 
         @Override
         public void onVideoComplete()
         {
-            log( "Interstitial ad video completed: " + codeId );
+            log( "Interstitial ad video completed: {}", codeId );
         }
 
         @Override
         public void onSkippedVideo()
         {
-            log( "Interstitial ad skipped: " + codeId );
+            log( "Interstitial ad skipped: {}", codeId );
         }
     }
 
@@ -656,7 +819,7 @@ public class ByteDanceMediationAdapter
         {
             rewardedAd = ad;
 
-            log( "Rewarded ad loaded: " + codeId );
+            log( "Rewarded ad loaded: {}", codeId );
             listener.onRewardedAdLoaded();
         }
 
@@ -664,20 +827,20 @@ public class ByteDanceMediationAdapter
         public void onError(final int code, final String message)
         {
             MaxAdapterError adapterError = toMaxError( code, message );
-            log( "Rewarded ad (" + codeId + ") failed to load with error: " + adapterError );
+            log( "Rewarded ad ({}) failed to load with error: {}", codeId, adapterError );
             listener.onRewardedAdLoadFailed( adapterError );
         }
 
         @Override
         public void onRewardVideoCached()
         {
-            log( "Rewarded ad cached: " + codeId );
+            log( "Rewarded ad cached: {}", codeId );
         }
 
         @Override
         public void onAdShow()
         {
-            log( "Rewarded ad displayed: " + codeId );
+            log( "Rewarded ad displayed: {}", codeId );
 
             listener.onRewardedAdDisplayed();
             listener.onRewardedAdVideoStarted();
@@ -686,26 +849,26 @@ public class ByteDanceMediationAdapter
         @Override
         public void onVideoError()
         {
-            log( "Rewarded ad failed to display: " + codeId );
+            log( "Rewarded ad failed to display: {}", codeId );
             listener.onRewardedAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed" ) );
         }
 
         @Override
         public void onAdVideoBarClick()
         {
-            log( "Rewarded ad clicked: " + codeId );
+            log( "Rewarded ad clicked: {}", codeId );
             listener.onRewardedAdClicked();
         }
 
         @Override
         public void onAdClose()
         {
-            log( "Rewarded ad hidden: " + codeId );
+            log( "Rewarded ad hidden: {}", codeId );
 
             if ( hasGrantedReward || shouldAlwaysRewardUser() )
             {
                 final MaxReward reward = getReward();
-                log( "Rewarded user with reward: " + reward );
+                log( "Rewarded user with reward: {}", reward );
                 listener.onUserRewarded( reward );
             }
 
@@ -715,7 +878,7 @@ public class ByteDanceMediationAdapter
         @Override
         public void onVideoComplete()
         {
-            log( "Rewarded ad video completed: " + codeId );
+            log( "Rewarded ad video completed: {}", codeId );
             listener.onRewardedAdVideoCompleted();
         }
 
@@ -724,19 +887,19 @@ public class ByteDanceMediationAdapter
         {
             if ( granted )
             {
-                log( "Rewarded user with reward: " + amount + " " + label );
+                log( "Rewarded user with reward: {} {}", amount, label );
                 hasGrantedReward = true;
             }
             else
             {
-                log( "Failed to reward user with error: " + errorCode + " " + errorMsg );
+                log( "Failed to reward user with error: {} {}", errorCode, errorMsg );
             }
         }
 
         @Override
         public void onSkippedVideo()
         {
-            log( "Rewarded ad video skipped: " + codeId );
+            log( "Rewarded ad video skipped: {}", codeId );
         }
     }
 
@@ -759,14 +922,14 @@ public class ByteDanceMediationAdapter
         {
             if ( ads == null || ads.isEmpty() )
             {
-                log( "Native " + adFormat.getLabel() + " ad (" + codeId + ") failed to load: no fill" );
+                log( "Native {} ad ({}) failed to load: no fill", adFormat.getLabel(), codeId );
                 listener.onAdViewAdLoadFailed( MaxAdapterError.NO_FILL );
 
                 return;
             }
 
             // Pangle still needs an extra `render()` step to fully load an ad.
-            log( adFormat.getLabel() + " ad (" + codeId + ") loaded with " + ads.size() + " ads" );
+            log( "{} ad ({}) loaded with {} ads", adFormat.getLabel(), codeId, ads.size() );
 
             expressAdViewAd = ads.get( 0 );
             expressAdViewAd.setExpressInteractionListener( this );
@@ -778,14 +941,14 @@ public class ByteDanceMediationAdapter
         public void onError(final int code, final String message)
         {
             MaxAdapterError adapterError = toMaxError( code, message );
-            log( adFormat.getLabel() + " ad (" + codeId + ") failed to load with error: " + adapterError );
+            log( "{} ad ({}) failed to load with error: {}", adFormat.getLabel(), codeId, adapterError );
             listener.onAdViewAdLoadFailed( adapterError );
         }
 
         @Override
         public void onRenderSuccess(final View view, final float width, final float height)
         {
-            log( adFormat.getLabel() + " ad loaded: " + codeId );
+            log( "{} ad loaded: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdLoaded( view );
         }
 
@@ -793,21 +956,21 @@ public class ByteDanceMediationAdapter
         public void onRenderFail(final View view, final String message, final int code)
         {
             MaxAdapterError adapterError = toMaxError( code, message );
-            log( adFormat.getLabel() + " ad (" + codeId + ") failed to load with error: " + adapterError );
+            log( "{} ad ({}) failed to load with error: {}", adFormat.getLabel(), codeId, adapterError );
             listener.onAdViewAdLoadFailed( adapterError );
         }
 
         @Override
         public void onAdShow(final View view, final int type)
         {
-            log( adFormat.getLabel() + " ad shown: " + codeId );
+            log( "{} ad shown: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdDisplayed();
         }
 
         @Override
         public void onAdClicked(final View view, final int type)
         {
-            log( adFormat.getLabel() + " ad clicked: " + codeId );
+            log( "{} ad clicked: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdClicked();
         }
     }
@@ -835,13 +998,13 @@ public class ByteDanceMediationAdapter
         {
             if ( ads == null || ads.size() == 0 )
             {
-                log( "Native " + adFormat.getLabel() + " ad (" + codeId + ") failed to load: no fill" );
+                log( "Native {} ad ({}) failed to load: no fill", adFormat.getLabel(), codeId );
                 listener.onAdViewAdLoadFailed( MaxAdapterError.NO_FILL );
 
                 return;
             }
 
-            log( "Native " + adFormat.getLabel() + " ad loaded: " + codeId + ". Preparing assets..." );
+            log( "Native {} ad loaded: {}. Preparing assets...", adFormat.getLabel(), codeId );
 
             final TTFeedAd nativeAdViewAd = ads.get( 0 );
             final ExecutorService executorServiceToUse;
@@ -868,7 +1031,7 @@ public class ByteDanceMediationAdapter
                     if ( nativeAdViewAd.getIcon().isValid() )
                     {
                         // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                        log( "Adding native ad icon (" + nativeAdViewAd.getIcon().getImageUrl() + ") to queue to be fetched" );
+                        log( "Adding native ad icon ({}) to queue to be fetched", nativeAdViewAd.getIcon().getImageUrl() );
 
                         final String imageUrl = nativeAdViewAd.getIcon().getImageUrl();
                         iconDrawableFuture = ( AppLovinSdk.VERSION_CODE >= 11000000 )
@@ -888,7 +1051,7 @@ public class ByteDanceMediationAdapter
                         if ( ttMediaImage.isValid() )
                         {
                             // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                            log( "Adding native ad media (" + ttMediaImage.getImageUrl() + ") to queue to be fetched" );
+                            log( "Adding native ad media ({}) to queue to be fetched", ttMediaImage.getImageUrl() );
 
                             final String imageUrl = ttMediaImage.getImageUrl();
                             imageDrawableFuture = ( AppLovinSdk.VERSION_CODE >= 11000000 )
@@ -919,18 +1082,12 @@ public class ByteDanceMediationAdapter
                     }
 
                     final MaxNativeAd.MaxNativeAdImage icon = iconDrawable != null ? new MaxNativeAd.MaxNativeAdImage( iconDrawable ) : null;
-                    final View mediaView;
-                    if ( isVideoMediaView( nativeAdViewAd.getImageMode() ) )
-                    {
-                        mediaView = nativeAdViewAd.getAdView();
-                    }
-                    else
+                    final Drawable finalMediaViewImageDrawable = mediaViewImageDrawable;
+
+                    final String templateName = BundleUtils.getString( "template", "", serverParameters );
+                    if ( templateName.contains( "vertical" ) && AppLovinSdk.VERSION_CODE < 9140500 )
                     {
-                        mediaView = new ImageView( context );
-                        if ( mediaViewImageDrawable != null )
-                        {
-                            ( (ImageView) mediaView ).setImageDrawable( mediaViewImageDrawable );
-                        }
+                        log( "Vertical native banners are only supported on MAX SDK 9.14.5 and above. Default horizontal native template will be used." );
                     }
 
                     // Create MaxNativeAd after images are loaded from remote URLs
@@ -939,9 +1096,23 @@ public class ByteDanceMediationAdapter
                         @Override
                         public void run()
                         {
+                            final View mediaView;
+                            if ( isVideoMediaView( nativeAdViewAd.getImageMode() ) )
+                            {
+                                mediaView = nativeAdViewAd.getAdView();
+                            }
+                            else
+                            {
+                                mediaView = new ImageView( context );
+                                if ( finalMediaViewImageDrawable != null )
+                                {
+                                    ( (ImageView) mediaView ).setImageDrawable( finalMediaViewImageDrawable );
+                                }
+                            }
+
                             log( "Creating native ad with assets" );
 
-                            MaxNativeAd maxNativeAd = new MaxNativeAd.Builder()
+                            final MaxNativeAd maxNativeAd = new MaxNativeAd.Builder()
                                     .setAdFormat( adFormat )
                                     .setTitle( nativeAdViewAd.getTitle() )
                                     .setBody( nativeAdViewAd.getDescription() )
@@ -951,11 +1122,7 @@ public class ByteDanceMediationAdapter
                                     .setOptionsView( nativeAdViewAd.getAdLogoView() )
                                     .build();
 
-                            String templateName = BundleUtils.getString( "template", "", serverParameters );
-                            if ( templateName.contains( "vertical" ) && AppLovinSdk.VERSION_CODE < 9140500 )
-                            {
-                                log( "Vertical native banners are only supported on MAX SDK 9.14.5 and above. Default horizontal native template will be used." );
-                            }
+                            final long inflationStartMillis = SystemClock.elapsedRealtime();
 
                             MaxNativeAdView maxNativeAdView;
                             if ( AppLovinSdk.VERSION_CODE >= 11010000 )
@@ -967,6 +1134,8 @@ public class ByteDanceMediationAdapter
                                 maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, activity );
                             }
 
+                            log( "Native {} template ({}) inflated in {}ms", adFormat.getLabel(), templateName, ( SystemClock.elapsedRealtime() - inflationStartMillis ) );
+
                             List<View> clickableViews = new ArrayList<>();
                             if ( AppLovinSdkUtils.isValidString( maxNativeAd.getTitle() ) && maxNativeAdView.getTitleTextView() != null )
                             {
@@ -995,7 +1164,7 @@ public class ByteDanceMediationAdapter
 
                             nativeAdViewAd.registerViewForInteraction( maxNativeAdView, clickableViews, creativeViews, NativeAdViewListener.this );
 
-                            log( "Native " + adFormat.getLabel() + " ad fully loaded: " + codeId );
+                            log( "Native {} ad fully loaded: {}", adFormat.getLabel(), codeId );
                             listener.onAdViewAdLoaded( maxNativeAdView );
                         }
                     } );
@@ -1007,14 +1176,14 @@ public class ByteDanceMediationAdapter
         public void onError(final int code, final String message)
         {
             MaxAdapterError adapterError = toMaxError( code, message );
-            log( "Native " + adFormat.getLabel() + " ad (" + codeId + ") failed to load with error: " + adapterError );
+            log( "Native {} ad ({}) failed to load with error: {}", adFormat.getLabel(), codeId, adapterError );
             listener.onAdViewAdLoadFailed( adapterError );
         }
 
         @Override
         public void onAdShow(final TTNativeAd ttNativeAd)
         {
-            log( "Native " + adFormat.getLabel() + " ad displayed: " + codeId );
+            log( "Native {} ad displayed: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdDisplayed();
         }
 
@@ -1022,57 +1191,57 @@ public class ByteDanceMediationAdapter
         public void onAdClicked(final View view, final TTNativeAd ttNativeAd)
         {
             // This callback is never called
-            log( "Native " + adFormat.getLabel() + " ad clicked: " + codeId );
+            log( "Native {} ad clicked: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdClicked();
         }
 
         @Override
         public void onAdCreativeClick(final View view, final TTNativeAd ttNativeAd)
         {
-            log( "Native " + adFormat.getLabel() + " ad creative clicked: " + codeId );
+            log( "Native {} ad creative clicked: {}", adFormat.getLabel(), codeId );
             listener.onAdViewAdClicked();
         }
 
         @Override
         public void onVideoLoad(final TTFeedAd ad)
         {
-            log( "Native " + adFormat.getLabel() + " ad video loaded" );
+            log( "Native {} ad video loaded", adFormat.getLabel() );
         }
 
         @Override
         public void onVideoError(final int errorCode, final int extraCode)
         {
-            log( "Native " + adFormat.getLabel() + " ad video error: " + errorCode );
+            log( "Native {} ad video error: {}", adFormat.getLabel(), errorCode );
         }
 
         @Override
         public void onVideoAdStartPlay(final TTFeedAd ad)
         {
-            log( "Native " + adFormat.getLabel() + " ad video started playing" );
+            log( "Native {} ad video started playing", adFormat.getLabel() );
         }
 
         @Override
         public void onVideoAdPaused(final TTFeedAd ad)
         {
-            log( "Native " + adFormat.getLabel() + " ad video paused" );
+            log( "Native {} ad video paused", adFormat.getLabel() );
         }
 
         @Override
         public void onVideoAdContinuePlay(final TTFeedAd ad)
         {
-            log( "Native " + adFormat.getLabel() + " ad video continued" );
+            log( "Native {} ad video continued", adFormat.getLabel() );
         }
 
         @Override
         public void onProgressUpdate(final long current, final long duration)
         {
-            log( "Native " + adFormat.getLabel() + " ad video progress updated (" + current + ") by duration (" + duration + ")" );
+            log( "Native {} ad video progress updated ({}) by duration ({})", adFormat.getLabel(), current, duration );
         }
 
         @Override
         public void onVideoAdComplete(final TTFeedAd ad)
         {
-            log( "Native " + adFormat.getLabel() + " ad video completed" );
+            log( "Native {} ad video completed", adFormat.getLabel() );
         }
     }
 
@@ -1097,13 +1266,13 @@ public class ByteDanceMediationAdapter
         {
             if ( ads == null || ads.size() == 0 )
             {
-                log( "Native ad (" + codeId + ") failed to load: no fill" );
+                log( "Native ad ({}) failed to load: no fill", codeId );
                 listener.onNativeAdLoadFailed( MaxAdapterError.NO_FILL );
 
                 return;
             }
 
-            log( "Native ad loaded: " + codeId + ". Preparing assets..." );
+            log( "Native ad loaded: {}. Preparing assets...", codeId );
 
             final TTFeedAd nativeAd = ads.get( 0 );
             ByteDanceMediationAdapter.this.nativeAd = nativeAd;
@@ -1129,7 +1298,7 @@ public class ByteDanceMediationAdapter
                     if ( nativeAd.getIcon().isValid() )
                     {
                         // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                        log( "Adding native ad icon (" + nativeAd.getIcon().getImageUrl() + ") to queue to be fetched" );
+                        log( "Adding native ad icon ({}) to queue to be fetched", nativeAd.getIcon().getImageUrl() );
                         iconDrawableFuture = createDrawableFuture( nativeAd.getIcon().getImageUrl(), context.getResources() );
                     }
 
@@ -1145,7 +1314,7 @@ public class ByteDanceMediationAdapter
                         if ( ttMediaImage.isValid() )
                         {
                             // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                            log( "Adding native ad media (" + ttMediaImage.getImageUrl() + ") to queue to be fetched" );
+                            log( "Adding native ad media ({}) to queue to be fetched", ttMediaImage.getImageUrl() );
                             imageDrawableFuture = createDrawableFuture( ttMediaImage.getImageUrl(), context.getResources() );
                         }
                     }
@@ -1207,7 +1376,7 @@ public class ByteDanceMediationAdapter
                                     .setOptionsView( nativeAd.getAdLogoView() );
                             MaxNativeAd maxNativeAd = new MaxByteDanceNativeAd( builder );
 
-                            log( "Native ad fully loaded: " + codeId );
+                            log( "Native ad fully loaded: {}", codeId );
                             listener.onNativeAdLoaded( maxNativeAd, null );
                         }
                     } );
@@ -1218,7 +1387,7 @@ public class ByteDanceMediationAdapter
         @Override
         public void onError(final int code, final String message)
         {
-            log( "Native ad (" + codeId + ") failed to load with error code (" + code + ") and message: " + message );
+            log( "Native ad ({}) failed to load with error code ({}) and message: {}", codeId, code, message );
 
             MaxAdapterError adapterError = toMaxError( code, message );
             listener.onNativeAdLoadFailed( adapterError );
@@ -1227,7 +1396,7 @@ public class ByteDanceMediationAdapter
         @Override
         public void onAdShow(final TTNativeAd ttNativeAd)
         {
-            log( "Native ad displayed: " + codeId );
+            log( "Native ad displayed: {}", codeId );
             listener.onNativeAdDisplayed( null );
         }
 
@@ -1235,14 +1404,14 @@ public class ByteDanceMediationAdapter
         public void onAdClicked(final View view, final TTNativeAd ttNativeAd)
         {
             // This callback is never called
-            log( "Native ad clicked: " + codeId );
+            log( "Native ad clicked: {}", codeId );
             listener.onNativeAdClicked();
         }
 
         @Override
         public void onAdCreativeClick(final View view, final TTNativeAd ttNativeAd)
         {
-            log( "Native ad creative clicked: " + codeId );
+            log( "Native ad creative clicked: {}", codeId );
             listener.onNativeAdClicked();
         }
 
@@ -1255,7 +1424,7 @@ public class ByteDanceMediationAdapter
         @Override
         public void onVideoError(final int errorCode, final int extraCode)
         {
-            log( "Native ad video error: " + errorCode );
+            log( "Native ad video error: {}", errorCode );
         }
 
         @Override
@@ -2,6 +2,7 @@ package com.applovin.mediation.adapters;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
 import android.os.Build;
 import android.os.Bundle;
 import android.text.TextUtils;
@@ -42,8 +43,17 @@ import com.chartboost.sdk.Privacy.model.COPPA;
 import com.chartboost.sdk.Privacy.model.DataUseConsent;
 import com.chartboost.sdk.Privacy.model.GDPR;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ChartboostMediationAdapter
         extends MediationAdapterBase
@@ -54,7 +64,8 @@ public class ChartboostMediationAdapter
 
     private static InitializationStatus sStatus;
 
-    private String mLocation;
+    private String                          mLocation;
+    private WeakReference<ChartboostBanner> mAdViewRef;
 
     static
     {
@@ -87,6 +98,8 @@ public class ChartboostMediationAdapter
             // NOTE: `activity` can only be null in 11.1.0+, and `getApplicationContext()` is introduced in 11.1.0
             Context context = ( activity != null ) ? activity.getApplicationContext() : getApplicationContext();
 
+            ROUTER.setDebuggableApp( ( context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE ) != 0 );
+
             // We must update consent _before_ calling {@link Chartboost#startWithAppId()} `startWithAppId:appSignature:delegate`
             // (https://answers.chartboost.com/en-us/child_article/android#gdpr)
             updateConsentStatus( parameters, context );
@@ -146,6 +159,32 @@ public class ChartboostMediationAdapter
     public void onDestroy()
     {
         ROUTER.removeAdapter( this, mLocation );
+
+        // The router keeps the most recent banner for its callbacks - release it if it is ours
+        ChartboostBanner adView = ( mAdViewRef != null ) ? mAdViewRef.get() : null;
+        if ( adView != null )
+        {
+            ROUTER.clearAdView( adView );
+        }
+
+        // In debuggable apps, verify that neither the adapter nor its banner outlive `onDestroy()`
+        if ( ROUTER.isDebuggableApp() )
+        {
+            ROUTER.watchForRetention( this );
+
+            if ( adView != null )
+            {
+                ROUTER.watchForRetention( adView );
+            }
+        }
+    }
+
+    /**
+     * Returns the number of objects per class that were still reachable after the forced GCs following {@link #onDestroy()}. Only populated in debuggable apps.
+     */
+    public static Map<String, Integer> getRetainedObjectCounts()
+    {
+        return ROUTER.getRetainedObjectCounts();
     }
 
     @Override
@@ -250,6 +289,7 @@ public class ChartboostMediationAdapter
 
         ChartboostBanner adView = new ChartboostBanner( activity.getApplicationContext(), mLocation, toAdSize( adFormat ), null );
         adView.setAutomaticallyRefreshesContent( false );
+        mAdViewRef = new WeakReference<>( adView );
         ROUTER.setAdView( adView );
         ROUTER.addAdViewAdapter( this, listener, mLocation, adView );
 
@@ -372,6 +412,9 @@ public class ChartboostMediationAdapter
     private static class ChartboostMediationAdapterRouter
             extends MediationAdapterRouter
     {
+        private static final long RETENTION_CHECK_DELAY_MILLIS = 5000;
+        private static final int  MAX_RETENTION_CHECKS         = 3;
+
         private final AtomicBoolean isShowingAd = new AtomicBoolean();
 
         private OnCompletionListener onCompletionListener;
@@ -380,6 +423,11 @@ public class ChartboostMediationAdapter
 
         private ChartboostBanner adView;
 
+        private final ConcurrentMap<String, AtomicInteger> retainedObjectCounts = new ConcurrentHashMap<>();
+
+        private volatile boolean         isDebuggableApp;
+        private ScheduledExecutorService retentionCheckExecutor;
+
         private final ChartboostDelegate chartboostDelegate = new ChartboostDelegate()
         {
             @Override
@@ -537,6 +585,9 @@ public class ChartboostMediationAdapter
             @Override
             public void onAdCached(final ChartboostCacheEvent event, final ChartboostCacheError error)
             {
+                // The banner is released once its adapter is destroyed
+                if ( adView == null ) return;
+
                 String location = adView.getLocation();
                 if ( error != null )
                 {
@@ -569,6 +620,9 @@ public class ChartboostMediationAdapter
             @Override
             public void onAdShown(final ChartboostShowEvent event, final ChartboostShowError error)
             {
+                // The banner is released once its adapter is destroyed
+                if ( adView == null ) return;
+
                 String location = adView.getLocation();
                 if ( error != null )
                 {
@@ -599,6 +653,9 @@ public class ChartboostMediationAdapter
             @Override
             public void onAdClicked(final ChartboostClickEvent event, final ChartboostClickError error)
             {
+                // The banner is released once its adapter is destroyed
+                if ( adView == null ) return;
+
                 String location = adView.getLocation();
                 if ( error != null )
                 {
@@ -633,6 +690,14 @@ public class ChartboostMediationAdapter
             this.adView = adView;
         }
 
+        void clearAdView(final ChartboostBanner adView)
+        {
+            if ( this.adView == adView )
+            {
+                this.adView = null;
+            }
+        }
+
         void showAdViewDelayed()
         {
             // Chartboost requires manual show after caching ad views. Delay to allow enough time for attaching to parent.
@@ -641,11 +706,103 @@ public class ChartboostMediationAdapter
                 @Override
                 public void run()
                 {
-                    adView.show();
+                    if ( adView != null )
+                    {
+                        adView.show();
+                    }
                 }
             }, 500 );
         }
 
+        //region Retained Object Tracking
+
+        void setDebuggableApp(final boolean isDebuggableApp)
+        {
+            this.isDebuggableApp = isDebuggableApp;
+        }
+
+        boolean isDebuggableApp()
+        {
+            return isDebuggableApp;
+        }
+
+        void watchForRetention(final Object object)
+        {
+            scheduleRetentionCheck( new WeakReference<>( object ), object.getClass().getSimpleName(), 1 );
+        }
+
+        Map<String, Integer> getRetainedObjectCounts()
+        {
+            Map<String, Integer> retainedObjectCounts = new HashMap<>( this.retainedObjectCounts.size() );
+            for ( Map.Entry<String, AtomicInteger> entry : this.retainedObjectCounts.entrySet() )
+            {
+                retainedObjectCounts.put( entry.getKey(), entry.getValue().get() );
+            }
+
+            return retainedObjectCounts;
+        }
+
+        private synchronized ScheduledExecutorService getRetentionCheckExecutor()
+        {
+            // Checks force GCs, so keep them off the UI thread
+            if ( retentionCheckExecutor == null )
+            {
+                retentionCheckExecutor = Executors.newSingleThreadScheduledExecutor();
+            }
+
+            return retentionCheckExecutor;
+        }
+
+        private void scheduleRetentionCheck(final WeakReference<Object> objectRef, final String objectName, final int checkCount)
+        {
+            getRetentionCheckExecutor().schedule( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    checkRetention( objectRef, objectName, checkCount );
+                }
+            }, RETENTION_CHECK_DELAY_MILLIS, TimeUnit.MILLISECONDS );
+        }
+
+        private void checkRetention(final WeakReference<Object> objectRef, final String objectName, final int checkCount)
+        {
+            // Only dereference the object after the GC, so this check does not keep it reachable
+            Runtime.getRuntime().gc();
+            System.runFinalization();
+            Runtime.getRuntime().gc();
+
+            Object object = objectRef.get();
+            if ( object == null ) return;
+
+            // The object may still be released later, e.g. once a pending callback runs - only report it once it survives every check
+            if ( checkCount < MAX_RETENTION_CHECKS )
+            {
+                scheduleRetentionCheck( objectRef, objectName, checkCount + 1 );
+                return;
+            }
+
+            AtomicInteger retainedCount = retainedObjectCounts.get( objectName );
+            if ( retainedCount == null )
+            {
+                retainedObjectCounts.putIfAbsent( objectName, new AtomicInteger() );
+                retainedCount = retainedObjectCounts.get( objectName );
+            }
+
+            log( objectName + " still reachable after " + MAX_RETENTION_CHECKS + " forced GCs following onDestroy() (retained: " + retainedCount.incrementAndGet() + "), retained by: " + findRetainer( object ) );
+        }
+
+        private String findRetainer(final Object object)
+        {
+            // Only the references owned by this router can be checked directly - anything else requires a heap dump
+            if ( object == adView ) return "ChartboostMediationAdapterRouter.adView";
+            if ( object == onCompletionListener ) return "ChartboostMediationAdapterRouter.onCompletionListener";
+
+            return "unknown (capture a heap dump for the full retaining path)";
+        }
+
+        //endregion
+
         //region Initialization
 
         //TODO: marked for deletion, pending SDK change.
@@ -6,7 +6,7 @@ plugins {
 private val versionMajor = 4
 private val versionMinor = 6
 private val versionPatch = 0
-private val versionAdapterPatch = 5
+private val versionAdapterPatch = 6
 
 val libraryVersionName by extra("${versionMajor}.${versionMinor}.${versionPatch}.${versionAdapterPatch}")
 val libraryVersionCode by extra((versionMajor * 1000000) + (versionMinor * 10000) + (versionPatch * 100) + versionAdapterPatch)
@@ -6,7 +6,7 @@ plugins {
 private val versionMajor = 3
 private val versionMinor = 2
 private val versionPatch = 3
-private val versionAdapterPatch = 7
+private val versionAdapterPatch = 8
 
 val libraryVersionName by extra("${versionMajor}.${versionMinor}.${versionPatch}.${versionAdapterPatch}")
 val libraryVersionCode by extra((versionMajor * 1000000) + (versionMinor * 10000) + (versionPatch * 100) + versionAdapterPatch)
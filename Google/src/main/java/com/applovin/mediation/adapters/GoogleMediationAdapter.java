@@ -5,6 +5,7 @@ import android.app.Activity;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.preference.PreferenceManager;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
@@ -70,12 +71,21 @@ import com.google.android.gms.ads.rewarded.RewardedAdLoadCallback;
 import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAd;
 import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAdLoadCallback;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -94,6 +104,9 @@ public class GoogleMediationAdapter
     private static final AtomicBoolean        initialized = new AtomicBoolean();
     private static       InitializationStatus status;
 
+    // Latency histograms keyed by event and ad format, e.g. "load_inter"
+    private static final ConcurrentMap<String, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
+
     private InterstitialAd         interstitialAd;
     private RewardedInterstitialAd rewardedInterstitialAd;
     private RewardedAd             rewardedAd;
@@ -104,6 +117,9 @@ public class GoogleMediationAdapter
     private RewardedInterstitialAdListener rewardedInterstitialAdListener;
     private RewardedAdListener             rewardedAdListener;
 
+    private long loadStartMillis;
+    private long showStartMillis;
+
     // Explicit default constructor declaration
     public GoogleMediationAdapter(final AppLovinSdk sdk) { super( sdk ); }
 
@@ -119,6 +135,8 @@ public class GoogleMediationAdapter
         {
             Context context = getContext( activity );
 
+            final long initStartMillis = SystemClock.elapsedRealtime();
+
             // Prevent AdMob SDK from auto-initing its adapters in AB testing environments.
             MobileAds.disableMediationAdapterInitialization( context );
 
@@ -127,6 +145,7 @@ public class GoogleMediationAdapter
                 status = InitializationStatus.DOES_NOT_APPLY;
 
                 MobileAds.initialize( context );
+                recordLatency( "initialize", null, initStartMillis );
 
                 onCompletionListener.onCompletion( status, null );
             }
@@ -146,6 +165,8 @@ public class GoogleMediationAdapter
                         // NOTE: We were able to load ads even when SDK is in "not ready" init state...
                         // AdMob SDK when status "not ready": "The mediation adapter is LESS likely to fill ad requests."
                         status = ( AdapterStatus.State.READY == googleAdsState ) ? InitializationStatus.INITIALIZED_SUCCESS : InitializationStatus.INITIALIZED_UNKNOWN;
+                        recordLatency( "initialize", null, initStartMillis );
+
                         onCompletionListener.onCompletion( status, null );
                     }
                 } );
@@ -221,6 +242,8 @@ public class GoogleMediationAdapter
     @Override
     public void collectSignal(final MaxAdapterSignalCollectionParameters parameters, final Activity activity, final MaxSignalCollectionListener callback)
     {
+        final long signalStartMillis = SystemClock.elapsedRealtime();
+
         setRequestConfiguration( parameters );
 
         Context context = getContext( activity );
@@ -233,6 +256,8 @@ public class GoogleMediationAdapter
             public void onSuccess(@NonNull final QueryInfo queryInfo)
             {
                 log( "Signal collection successful" );
+                recordLatency( "signal", parameters.getAdFormat(), signalStartMillis );
+
                 callback.onSignalCollected( queryInfo.getQuery() );
             }
 
@@ -254,6 +279,8 @@ public class GoogleMediationAdapter
     {
         final String placementId = parameters.getThirdPartyAdPlacementId();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( parameters.getBidResponse() );
+        loadStartMillis = SystemClock.elapsedRealtime();
+
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + "interstitial ad: " + placementId + "..." );
 
         updateMuteState( parameters );
@@ -266,6 +293,7 @@ public class GoogleMediationAdapter
             public void onAdLoaded(@NonNull final InterstitialAd ad)
             {
                 log( "Interstitial ad loaded: " + placementId + "..." );
+                recordLoadLatency( MaxAdFormat.INTERSTITIAL );
 
                 interstitialAd = ad;
                 interstitialAd.setFullScreenContentCallback( new InterstitialAdListener( placementId, listener ) );
@@ -303,6 +331,7 @@ public class GoogleMediationAdapter
 
         if ( interstitialAd != null )
         {
+            showStartMillis = SystemClock.elapsedRealtime();
             interstitialAd.show( activity );
         }
         else
@@ -321,6 +350,8 @@ public class GoogleMediationAdapter
     {
         final String placementId = parameters.getThirdPartyAdPlacementId();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( parameters.getBidResponse() );
+        loadStartMillis = SystemClock.elapsedRealtime();
+
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + "rewarded interstitial ad: " + placementId + "..." );
 
         updateMuteState( parameters );
@@ -333,6 +364,7 @@ public class GoogleMediationAdapter
             public void onAdLoaded(@NonNull final RewardedInterstitialAd ad)
             {
                 log( "Rewarded interstitial ad loaded: " + placementId );
+                recordLoadLatency( MaxAdFormat.REWARDED_INTERSTITIAL );
 
                 rewardedInterstitialAd = ad;
                 rewardedInterstitialAdListener = new RewardedInterstitialAdListener( placementId, listener );
@@ -372,6 +404,8 @@ public class GoogleMediationAdapter
         if ( rewardedInterstitialAd != null )
         {
             configureReward( parameters );
+
+            showStartMillis = SystemClock.elapsedRealtime();
             rewardedInterstitialAd.show( activity, new OnUserEarnedRewardListener()
             {
                 @Override
@@ -398,6 +432,8 @@ public class GoogleMediationAdapter
     {
         final String placementId = parameters.getThirdPartyAdPlacementId();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( parameters.getBidResponse() );
+        loadStartMillis = SystemClock.elapsedRealtime();
+
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + "rewarded ad: " + placementId + "..." );
 
         updateMuteState( parameters );
@@ -410,6 +446,7 @@ public class GoogleMediationAdapter
             public void onAdLoaded(@NonNull final RewardedAd ad)
             {
                 log( "Rewarded ad loaded: " + placementId + "..." );
+                recordLoadLatency( MaxAdFormat.REWARDED );
 
                 rewardedAd = ad;
                 rewardedAdListener = new RewardedAdListener( placementId, listener );
@@ -450,6 +487,8 @@ public class GoogleMediationAdapter
         {
             configureReward( parameters );
 
+            showStartMillis = SystemClock.elapsedRealtime();
+
             rewardedAd.show( activity, new OnUserEarnedRewardListener()
             {
                 @Override
@@ -478,6 +517,8 @@ public class GoogleMediationAdapter
         String placementId = parameters.getThirdPartyAdPlacementId();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( parameters.getBidResponse() );
         boolean isNative = parameters.getServerParameters().getBoolean( "is_native" );
+        loadStartMillis = SystemClock.elapsedRealtime();
+
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + ( isNative ? "native " : "" ) + adFormat.getLabel() + " ad for placement id: " + placementId + "..." );
 
         setRequestConfiguration( parameters );
@@ -525,6 +566,8 @@ public class GoogleMediationAdapter
     {
         String placementId = parameters.getThirdPartyAdPlacementId();
         boolean isBiddingAd = AppLovinSdkUtils.isValidString( parameters.getBidResponse() );
+        loadStartMillis = SystemClock.elapsedRealtime();
+
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + " native ad for placement id: " + placementId + "..." );
 
         setRequestConfiguration( parameters );
@@ -552,6 +595,64 @@ public class GoogleMediationAdapter
 
     //endregion
 
+    //region Latency Histograms
+
+    /**
+     * @return A JSON snapshot of the initialization, signal collection, load and show latency histograms recorded by this adapter in the current process.
+     */
+    public static String getLatencyHistogramsJson()
+    {
+        try
+        {
+            JSONObject histogramsJson = new JSONObject();
+            for ( Map.Entry<String, LatencyHistogram> entry : latencyHistograms.entrySet() )
+            {
+                histogramsJson.put( entry.getKey(), entry.getValue().toJson() );
+            }
+
+            JSONObject snapshotJson = new JSONObject();
+            snapshotJson.put( "network", "google" );
+            snapshotJson.put( "histograms", histogramsJson );
+
+            return snapshotJson.toString();
+        }
+        catch ( JSONException exception )
+        {
+            return "{}";
+        }
+    }
+
+    /**
+     * Record the latency of the current load, once. Banners call `onAdLoaded` again on every AdMob refresh, which must not be measured from the original load.
+     */
+    private void recordLoadLatency(final MaxAdFormat adFormat)
+    {
+        recordLatency( "load", adFormat, loadStartMillis );
+        loadStartMillis = 0;
+    }
+
+    private static void recordLatency(final String event, @Nullable final MaxAdFormat adFormat, final long startMillis)
+    {
+        if ( startMillis <= 0 ) return;
+
+        final String key = ( adFormat != null ) ? event + "_" + adFormat.getLabel().toLowerCase( Locale.US ) : event;
+
+        LatencyHistogram histogram = latencyHistograms.get( key );
+        if ( histogram == null )
+        {
+            final LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = latencyHistograms.putIfAbsent( key, newHistogram );
+            if ( histogram == null )
+            {
+                histogram = newHistogram;
+            }
+        }
+
+        histogram.record( SystemClock.elapsedRealtime() - startMillis );
+    }
+
+    //endregion
+
     //region Helper Methods
 
     private static MaxAdapterError toMaxError(final AdError googleAdsError)
@@ -832,6 +933,114 @@ public class GoogleMediationAdapter
 
     //endregion
 
+    /**
+     * Lock-free, fixed-size log-linear latency histogram, in the style of HdrHistogram. Latencies below {@link #SUB_BUCKET_COUNT} ms are counted exactly, and
+     * every power-of-two range above is split into {@link #SUB_BUCKET_COUNT} equal sub-buckets, so reported percentiles are within 1/16 (6.25%) of the recorded
+     * latency. Latencies of 2^({@link #MAX_EXPONENT} + 1) ms (~35 minutes) and above are counted in the last bucket.
+     */
+    private static class LatencyHistogram
+    {
+        private static final int SUB_BUCKET_BITS  = 4;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+        private static final int MAX_EXPONENT     = 20;
+        private static final int BUCKET_COUNT     = SUB_BUCKET_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT;
+
+        private final AtomicLongArray bucketCounts = new AtomicLongArray( BUCKET_COUNT );
+        private final AtomicLong      totalMillis  = new AtomicLong();
+        private final AtomicLong      maxMillis    = new AtomicLong();
+
+        void record(final long latencyMillis)
+        {
+            final long millis = Math.max( 0, latencyMillis );
+
+            bucketCounts.incrementAndGet( getBucketIndex( millis ) );
+            totalMillis.addAndGet( millis );
+
+            long currentMaxMillis = maxMillis.get();
+            while ( millis > currentMaxMillis && !maxMillis.compareAndSet( currentMaxMillis, millis ) )
+            {
+                currentMaxMillis = maxMillis.get();
+            }
+        }
+
+        JSONObject toJson() throws JSONException
+        {
+            final long[] counts = new long[BUCKET_COUNT];
+            long count = 0;
+            for ( int i = 0; i < BUCKET_COUNT; i++ )
+            {
+                counts[i] = bucketCounts.get( i );
+                count += counts[i];
+            }
+
+            // Only non-empty buckets, as [lower bound in ms, count] pairs
+            JSONArray bucketsJson = new JSONArray();
+            for ( int i = 0; i < BUCKET_COUNT; i++ )
+            {
+                if ( counts[i] == 0 ) continue;
+
+                JSONArray bucketJson = new JSONArray();
+                bucketJson.put( getLowerBoundMillis( i ) );
+                bucketJson.put( counts[i] );
+                bucketsJson.put( bucketJson );
+            }
+
+            JSONObject histogramJson = new JSONObject();
+            histogramJson.put( "count", count );
+            histogramJson.put( "mean_ms", count > 0 ? totalMillis.get() / count : 0 );
+            histogramJson.put( "p50_ms", getPercentileMillis( counts, count, 0.50 ) );
+            histogramJson.put( "p90_ms", getPercentileMillis( counts, count, 0.90 ) );
+            histogramJson.put( "p99_ms", getPercentileMillis( counts, count, 0.99 ) );
+            histogramJson.put( "max_ms", maxMillis.get() );
+            histogramJson.put( "buckets", bucketsJson );
+
+            return histogramJson;
+        }
+
+        /**
+         * @return The highest latency counted in the same bucket as the given percentile, capped at the max recorded latency.
+         */
+        private long getPercentileMillis(final long[] counts, final long count, final double percentile)
+        {
+            if ( count == 0 ) return 0;
+
+            final long targetCount = (long) Math.ceil( count * percentile );
+            long cumulativeCount = 0;
+            for ( int i = 0; i < BUCKET_COUNT; i++ )
+            {
+                cumulativeCount += counts[i];
+                if ( cumulativeCount >= targetCount )
+                {
+                    return ( i < BUCKET_COUNT - 1 ) ? Math.min( getLowerBoundMillis( i + 1 ) - 1, maxMillis.get() ) : maxMillis.get();
+                }
+            }
+
+            return maxMillis.get();
+        }
+
+        private static int getBucketIndex(final long millis)
+        {
+            if ( millis < SUB_BUCKET_COUNT ) return (int) millis;
+
+            final int exponent = 63 - Long.numberOfLeadingZeros( millis );
+            if ( exponent > MAX_EXPONENT ) return BUCKET_COUNT - 1;
+
+            // The top SUB_BUCKET_BITS bits below the leading one bit select the sub-bucket
+            final int shift = exponent - SUB_BUCKET_BITS;
+            final int subBucket = (int) ( millis >> shift ) - SUB_BUCKET_COUNT;
+            return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+        }
+
+        private static long getLowerBoundMillis(final int bucketIndex)
+        {
+            if ( bucketIndex < SUB_BUCKET_COUNT ) return bucketIndex;
+
+            final int shift = ( bucketIndex - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT;
+            final int subBucket = ( bucketIndex - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+            return (long) ( SUB_BUCKET_COUNT + subBucket ) << shift;
+        }
+    }
+
     private class InterstitialAdListener
             extends FullScreenContentCallback
     {
@@ -848,6 +1057,7 @@ public class GoogleMediationAdapter
         public void onAdShowedFullScreenContent()
         {
             log( "Interstitial ad shown: " + placementId );
+            recordLatency( "show", MaxAdFormat.INTERSTITIAL, showStartMillis );
             listener.onInterstitialAdDisplayed();
         }
 
@@ -892,6 +1102,7 @@ public class GoogleMediationAdapter
         public void onAdShowedFullScreenContent()
         {
             log( "Rewarded interstitial ad shown: " + placementId );
+            recordLatency( "show", MaxAdFormat.REWARDED_INTERSTITIAL, showStartMillis );
 
             listener.onRewardedInterstitialAdDisplayed();
             listener.onRewardedInterstitialAdVideoStarted();
@@ -947,6 +1158,7 @@ public class GoogleMediationAdapter
         public void onAdShowedFullScreenContent()
         {
             log( "Rewarded ad shown: " + placementId );
+            recordLatency( "show", MaxAdFormat.REWARDED, showStartMillis );
 
             listener.onRewardedAdDisplayed();
             listener.onRewardedAdVideoStarted();
@@ -1002,6 +1214,7 @@ public class GoogleMediationAdapter
         public void onAdLoaded()
         {
             log( adFormat.getLabel() + " ad loaded: " + placementId );
+            recordLoadLatency( adFormat );
 
             if ( AppLovinSdk.VERSION_CODE >= 9150000 )
             {
@@ -1084,6 +1297,7 @@ public class GoogleMediationAdapter
         public void onNativeAdLoaded(@NonNull final NativeAd nativeAd)
         {
             log( "Native " + adFormat.getLabel() + " ad loaded: " + placementId );
+            recordLoadLatency( adFormat );
 
             if ( TextUtils.isEmpty( nativeAd.getHeadline() ) )
             {
@@ -1141,6 +1355,8 @@ public class GoogleMediationAdapter
                 @Override
                 public void run()
                 {
+                    final long inflationStartMillis = SystemClock.elapsedRealtime();
+
                     MaxNativeAdView maxNativeAdView;
                     if ( AppLovinSdk.VERSION_CODE < 9140000 )
                     {
@@ -1159,6 +1375,8 @@ public class GoogleMediationAdapter
                         }
                     }
 
+                    log( "Native " + adFormat.getLabel() + " template (" + templateName + ") inflated in " + ( SystemClock.elapsedRealtime() - inflationStartMillis ) + "ms" );
+
                     nativeAdView = new NativeAdView( context );
                     nativeAdView.setIconView( maxNativeAdView.getIconContentView() );
                     nativeAdView.setHeadlineView( maxNativeAdView.getTitleTextView() );
@@ -1245,6 +1463,7 @@ public class GoogleMediationAdapter
         public void onNativeAdLoaded(@NonNull final NativeAd nativeAd)
         {
             log( "Native ad loaded: " + placementId );
+            recordLoadLatency( MaxAdFormat.NATIVE );
 
             GoogleMediationAdapter.this.nativeAd = nativeAd;
 
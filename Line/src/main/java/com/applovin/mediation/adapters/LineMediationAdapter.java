@@ -5,6 +5,8 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
 import android.view.View;
@@ -47,13 +49,19 @@ import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LineMediationAdapter
         extends MediationAdapterBase
         implements MaxInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter /* MaxNativeAdAdapter */
 {
-    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+    private static final int DEFAULT_LOAD_TIMEOUT_SECONDS = 30;
+
+    private static final AtomicBoolean INITIALIZED      = new AtomicBoolean();
+    private static final AtomicInteger STUCK_LOAD_COUNT = new AtomicInteger();
+    private static final Handler       WATCHDOG_HANDLER = new Handler( Looper.getMainLooper() );
 
     private FiveAdInterstitial      interstitialAd;
     private FiveAdVideoReward       rewardedAd;
@@ -61,6 +69,9 @@ public class LineMediationAdapter
     private FiveAdNative            nativeAd;
     private WeakReference<Activity> activityRef;
 
+    // Set on the load thread, and cleared by the watchdog on the main thread
+    private volatile LoadWatchdog loadWatchdog;
+
     public LineMediationAdapter(final AppLovinSdk sdk) { super( sdk ); }
 
     @Override
@@ -141,6 +152,12 @@ public class LineMediationAdapter
     @Override
     public void onDestroy()
     {
+        if ( loadWatchdog != null )
+        {
+            loadWatchdog.cancel();
+            loadWatchdog = null;
+        }
+
         interstitialAd = null;
         rewardedAd = null;
         adView = null;
@@ -156,7 +173,17 @@ public class LineMediationAdapter
         interstitialAd = new FiveAdInterstitial( activity, slotId );
         activityRef = new WeakReference<>( activity );
 
-        InterstitialListener interstitialListener = new InterstitialListener( listener );
+        startLoadWatchdog( new LoadWatchdog( "Interstitial", slotId )
+        {
+            @Override
+            void onLoadTimedOut()
+            {
+                interstitialAd = null;
+                listener.onInterstitialAdLoadFailed( MaxAdapterError.TIMEOUT );
+            }
+        }, parameters );
+
+        InterstitialListener interstitialListener = new InterstitialListener( listener, loadWatchdog );
         interstitialAd.setLoadListener( interstitialListener );
         interstitialAd.setViewEventListener( interstitialListener );
         interstitialAd.loadAdAsync();
@@ -187,7 +214,17 @@ public class LineMediationAdapter
         rewardedAd = new FiveAdVideoReward( activity, slotId );
         activityRef = new WeakReference<>( activity );
 
-        RewardedListener rewardedListener = new RewardedListener( listener );
+        startLoadWatchdog( new LoadWatchdog( "Rewarded", slotId )
+        {
+            @Override
+            void onLoadTimedOut()
+            {
+                rewardedAd = null;
+                listener.onRewardedAdLoadFailed( MaxAdapterError.TIMEOUT );
+            }
+        }, parameters );
+
+        RewardedListener rewardedListener = new RewardedListener( listener, loadWatchdog );
         rewardedAd.setLoadListener( rewardedListener );
         rewardedAd.setViewEventListener( rewardedListener );
         rewardedAd.loadAdAsync();
@@ -218,10 +255,21 @@ public class LineMediationAdapter
 
         log( "Loading " + ( isNative ? "native " : "" ) + adFormat.getLabel() + " ad for slot id: " + slotId + "..." );
 
+        startLoadWatchdog( new LoadWatchdog( ( isNative ? "Native " : "" ) + adFormat.getLabel(), slotId )
+        {
+            @Override
+            void onLoadTimedOut()
+            {
+                nativeAd = null;
+                adView = null;
+                listener.onAdViewAdLoadFailed( MaxAdapterError.TIMEOUT );
+            }
+        }, parameters );
+
         if ( isNative )
         {
             nativeAd = new FiveAdNative( activity, slotId, new DisplayMetrics().widthPixels );
-            NativeAdViewListener nativeAdViewListener = new NativeAdViewListener( listener, adFormat, parameters.getServerParameters(), activity );
+            NativeAdViewListener nativeAdViewListener = new NativeAdViewListener( listener, adFormat, parameters.getServerParameters(), activity, loadWatchdog );
             nativeAd.setLoadListener( nativeAdViewListener );
             nativeAd.setViewEventListener( nativeAdViewListener );
 
@@ -233,7 +281,7 @@ public class LineMediationAdapter
         else
         {
             adView = new FiveAdCustomLayout( activity, slotId, new DisplayMetrics().widthPixels );
-            AdViewListener adViewListener = new AdViewListener( listener, adFormat );
+            AdViewListener adViewListener = new AdViewListener( listener, adFormat, loadWatchdog );
             adView.setLoadListener( adViewListener );
             adView.setViewEventListener( adViewListener );
 
@@ -251,7 +299,18 @@ public class LineMediationAdapter
         log( "Loading native ad for slot id: " + slotId + "..." );
 
         nativeAd = new FiveAdNative( activity, slotId, new DisplayMetrics().widthPixels );
-        NativeAdListener nativeAdListener = new NativeAdListener( listener, parameters.getServerParameters(), activity );
+
+        startLoadWatchdog( new LoadWatchdog( "Native", slotId )
+        {
+            @Override
+            void onLoadTimedOut()
+            {
+                nativeAd = null;
+                listener.onNativeAdLoadFailed( MaxAdapterError.TIMEOUT );
+            }
+        }, parameters );
+
+        NativeAdListener nativeAdListener = new NativeAdListener( listener, parameters.getServerParameters(), activity, loadWatchdog );
         nativeAd.setLoadListener( nativeAdListener );
         nativeAd.setViewEventListener( nativeAdListener );
 
@@ -261,6 +320,30 @@ public class LineMediationAdapter
         nativeAd.loadAdAsync();
     }
 
+    /**
+     * Returns the number of loads that never received a callback from the Line SDK before their deadline, across all adapter instances.
+     */
+    public static int getStuckLoadCount()
+    {
+        return STUCK_LOAD_COUNT.get();
+    }
+
+    private void startLoadWatchdog(final LoadWatchdog watchdog, final MaxAdapterResponseParameters parameters)
+    {
+        // Only one load is outstanding per adapter instance - a new load supersedes the previous watchdog
+        if ( loadWatchdog != null )
+        {
+            loadWatchdog.cancel();
+        }
+
+        // Fall back to the default timeout if the configured one is missing or invalid, rather than timing the load out right away
+        final int configuredLoadTimeoutSeconds = BundleUtils.getInt( "load_timeout_seconds", DEFAULT_LOAD_TIMEOUT_SECONDS, parameters.getServerParameters() );
+        final int loadTimeoutSeconds = ( configuredLoadTimeoutSeconds > 0 ) ? configuredLoadTimeoutSeconds : DEFAULT_LOAD_TIMEOUT_SECONDS;
+
+        loadWatchdog = watchdog;
+        WATCHDOG_HANDLER.postDelayed( watchdog, TimeUnit.SECONDS.toMillis( loadTimeoutSeconds ) );
+    }
+
     private static MaxAdapterError toMaxError(FiveAdErrorCode lineAdsError)
     {
         MaxAdapterError adapterError = MaxAdapterError.UNSPECIFIED;
@@ -325,15 +408,23 @@ public class LineMediationAdapter
             implements FiveAdLoadListener, FiveAdViewEventListener
     {
         private final MaxInterstitialAdapterListener listener;
+        private final LoadWatchdog                   loadWatchdog;
 
-        InterstitialListener(final MaxInterstitialAdapterListener listener)
+        InterstitialListener(final MaxInterstitialAdapterListener listener, final LoadWatchdog loadWatchdog)
         {
             this.listener = listener;
+            this.loadWatchdog = loadWatchdog;
         }
 
         @Override
         public void onFiveAdLoad(final FiveAdInterface ad)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Interstitial ad loaded for slot id: " + ad.getSlotId() + "..." );
             listener.onInterstitialAdLoaded();
         }
@@ -341,6 +432,12 @@ public class LineMediationAdapter
         @Override
         public void onFiveAdLoadError(final FiveAdInterface ad, final FiveAdErrorCode errorCode)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Interstitial ad failed to load for slot id: " + ad.getSlotId() + " with error: " + errorCode );
             MaxAdapterError error = toMaxError( errorCode );
             listener.onInterstitialAdLoadFailed( error );
@@ -425,16 +522,24 @@ public class LineMediationAdapter
             implements FiveAdLoadListener, FiveAdViewEventListener
     {
         private final MaxRewardedAdapterListener listener;
+        private final LoadWatchdog               loadWatchdog;
         private       boolean                    hasGrantedReward;
 
-        RewardedListener(final MaxRewardedAdapterListener listener)
+        RewardedListener(final MaxRewardedAdapterListener listener, final LoadWatchdog loadWatchdog)
         {
             this.listener = listener;
+            this.loadWatchdog = loadWatchdog;
         }
 
         @Override
         public void onFiveAdLoad(final FiveAdInterface ad)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Rewarded ad loaded for slot id: " + ad.getSlotId() + "..." );
             listener.onRewardedAdLoaded();
         }
@@ -442,6 +547,12 @@ public class LineMediationAdapter
         @Override
         public void onFiveAdLoadError(final FiveAdInterface ad, final FiveAdErrorCode errorCode)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Rewarded ad failed to load for slot id: " + ad.getSlotId() + " with error: " + errorCode );
             MaxAdapterError error = toMaxError( errorCode );
             listener.onRewardedAdLoadFailed( error );
@@ -541,16 +652,24 @@ public class LineMediationAdapter
     {
         private final MaxAdViewAdapterListener listener;
         private final MaxAdFormat              adFormat;
+        private final LoadWatchdog             loadWatchdog;
 
-        AdViewListener(final MaxAdViewAdapterListener listener, final MaxAdFormat adFormat)
+        AdViewListener(final MaxAdViewAdapterListener listener, final MaxAdFormat adFormat, final LoadWatchdog loadWatchdog)
         {
             this.listener = listener;
             this.adFormat = adFormat;
+            this.loadWatchdog = loadWatchdog;
         }
 
         @Override
         public void onFiveAdLoad(final FiveAdInterface ad)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( adFormat.getLabel() + " ad loaded for slot id: " + ad.getSlotId() + "..." );
             listener.onAdViewAdLoaded( adView );
         }
@@ -558,6 +677,12 @@ public class LineMediationAdapter
         @Override
         public void onFiveAdLoadError(final FiveAdInterface ad, final FiveAdErrorCode errorCode)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( adFormat.getLabel() + " ad failed to load for slot id: " + ad.getSlotId() + " with error: " + errorCode );
             MaxAdapterError error = toMaxError( errorCode );
             listener.onAdViewAdLoadFailed( error );
@@ -645,18 +770,26 @@ public class LineMediationAdapter
         private final MaxAdFormat              adFormat;
         private final Bundle                   serverParameters;
         private final WeakReference<Activity>  activityRef;
+        private final LoadWatchdog             loadWatchdog;
 
-        NativeAdViewListener(final MaxAdViewAdapterListener listener, final MaxAdFormat adFormat, final Bundle serverParameters, final Activity activity)
+        NativeAdViewListener(final MaxAdViewAdapterListener listener, final MaxAdFormat adFormat, final Bundle serverParameters, final Activity activity, final LoadWatchdog loadWatchdog)
         {
             this.listener = listener;
             this.adFormat = adFormat;
             this.serverParameters = serverParameters;
             this.activityRef = new WeakReference<>( activity );
+            this.loadWatchdog = loadWatchdog;
         }
 
         @Override
         public void onFiveAdLoad(final FiveAdInterface ad)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Native " + adFormat.getLabel() + " ad loaded for slot id: " + ad.getSlotId() + "..." );
 
             if ( nativeAd == null )
@@ -672,6 +805,12 @@ public class LineMediationAdapter
         @Override
         public void onFiveAdLoadError(final FiveAdInterface ad, final FiveAdErrorCode errorCode)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Native " + adFormat.getLabel() + " ad failed to load for slot id: " + ad.getSlotId() + " with error: " + errorCode );
             MaxAdapterError error = toMaxError( errorCode );
             listener.onAdViewAdLoadFailed( error );
@@ -858,17 +997,25 @@ public class LineMediationAdapter
         private final MaxNativeAdAdapterListener listener;
         private final Bundle                     serverParameters;
         private final WeakReference<Activity>    activityRef;
+        private final LoadWatchdog               loadWatchdog;
 
-        NativeAdListener(final MaxNativeAdAdapterListener listener, final Bundle serverParameters, final Activity activity)
+        NativeAdListener(final MaxNativeAdAdapterListener listener, final Bundle serverParameters, final Activity activity, final LoadWatchdog loadWatchdog)
         {
             this.listener = listener;
             this.serverParameters = serverParameters;
             this.activityRef = new WeakReference<>( activity );
+            this.loadWatchdog = loadWatchdog;
         }
 
         @Override
         public void onFiveAdLoad(final FiveAdInterface ad)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Native ad loaded for slot id: " + ad.getSlotId() + "..." );
 
             FiveAdNative loadedNativeAd = nativeAd;
@@ -930,6 +1077,12 @@ public class LineMediationAdapter
         @Override
         public void onFiveAdLoadError(final FiveAdInterface ad, final FiveAdErrorCode errorCode)
         {
+            if ( !loadWatchdog.complete() )
+            {
+                log( "Ignoring late load callback for slot id: " + ad.getSlotId() );
+                return;
+            }
+
             log( "Native ad failed to load for slot id: " + ad.getSlotId() + " with error: " + errorCode );
             MaxAdapterError error = toMaxError( errorCode );
             listener.onNativeAdLoadFailed( error );
@@ -1007,6 +1160,64 @@ public class LineMediationAdapter
         }
     }
 
+    /**
+     * Fails a load with {@link MaxAdapterError#TIMEOUT} and releases the Line ad object if the Line SDK does not invoke its load callback before the deadline.
+     * Whichever of the load callback or the deadline fires first wins; the other is ignored.
+     */
+    private abstract class LoadWatchdog
+            implements Runnable
+    {
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final String        adLabel;
+        private final String        slotId;
+
+        LoadWatchdog(final String adLabel, final String slotId)
+        {
+            this.adLabel = adLabel;
+            this.slotId = slotId;
+        }
+
+        /**
+         * @return {@code true} if the load callback arrived before the deadline and should be forwarded.
+         */
+        boolean complete()
+        {
+            if ( !completed.compareAndSet( false, true ) ) return false;
+
+            WATCHDOG_HANDLER.removeCallbacks( this );
+            if ( loadWatchdog == this )
+            {
+                loadWatchdog = null;
+            }
+
+            return true;
+        }
+
+        void cancel()
+        {
+            completed.set( true );
+            WATCHDOG_HANDLER.removeCallbacks( this );
+        }
+
+        @Override
+        public void run()
+        {
+            if ( !completed.compareAndSet( false, true ) ) return;
+
+            int stuckLoadCount = STUCK_LOAD_COUNT.incrementAndGet();
+            log( adLabel + " ad load timed out for slot id: " + slotId + " (stuck Line loads: " + stuckLoadCount + ")" );
+
+            if ( loadWatchdog == this )
+            {
+                loadWatchdog = null;
+            }
+
+            onLoadTimedOut();
+        }
+
+        abstract void onLoadTimedOut();
+    }
+
     private class MaxLineNativeAd
             extends MaxNativeAd
     {
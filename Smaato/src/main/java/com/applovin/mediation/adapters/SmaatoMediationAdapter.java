@@ -55,8 +55,9 @@ import com.smaato.sdk.rewarded.RewardedInterstitialAd;
 import com.smaato.sdk.rewarded.RewardedRequestError;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import androidx.annotation.NonNull;
@@ -691,18 +692,17 @@ public class SmaatoMediationAdapter
     /**
      * Router for interstitial/rewarded ad events.
      * Ads are removed on ad displayed/expired, as Smaato will allow a new ad load for the same adSpaceId.
+     * Loaded ads are stored in concurrent maps so lookups for different ad space ids do not contend on a shared lock.
      */
     private static class SmaatoMediationAdapterRouter
             extends MediationAdapterRouter
             implements com.smaato.sdk.interstitial.EventListener, com.smaato.sdk.rewarded.EventListener
     {
         // Interstitial
-        private final Map<String, InterstitialAd> interstitialAds     = new HashMap<>();
-        private final Object                      interstitialAdsLock = new Object();
+        private final ConcurrentMap<String, InterstitialAd> interstitialAds = new ConcurrentHashMap<>();
 
         // Rewarded
-        private final Map<String, RewardedInterstitialAd> rewardedAds     = new HashMap<>();
-        private final Object                              rewardedAdsLock = new Object();
+        private final ConcurrentMap<String, RewardedInterstitialAd> rewardedAds = new ConcurrentHashMap<>();
 
         private boolean hasGrantedReward;
 
@@ -711,18 +711,12 @@ public class SmaatoMediationAdapter
 
         public InterstitialAd getInterstitialAd(final String placementId)
         {
-            synchronized ( interstitialAdsLock )
-            {
-                return interstitialAds.get( placementId );
-            }
+            return interstitialAds.get( placementId );
         }
 
         public RewardedInterstitialAd getRewardedAd(final String placementId)
         {
-            synchronized ( rewardedAdsLock )
-            {
-                return rewardedAds.get( placementId );
-            }
+            return rewardedAds.get( placementId );
         }
 
         //region Interstitial listener
@@ -732,12 +726,9 @@ public class SmaatoMediationAdapter
         {
             final String placementId = interstitialAd.getAdSpaceId();
 
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.put( placementId, interstitialAd );
-            }
+            interstitialAds.put( placementId, interstitialAd );
 
-            log( "Interstitial loaded for placement: " + placementId + "..." );
+            log( "Interstitial loaded for placement: " + placementId + "... (" + interstitialAds.size() + " interstitial ads loaded)" );
             onAdLoaded( placementId, interstitialAd.getCreativeId() );
         }
 
@@ -760,10 +751,7 @@ public class SmaatoMediationAdapter
             {
                 final String placementId = interstitialAd.getAdSpaceId();
 
-                synchronized ( interstitialAdsLock )
-                {
-                    interstitialAds.remove( placementId );
-                }
+                interstitialAds.remove( placementId, interstitialAd );
 
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", interstitialError.ordinal(), interstitialError.name() );
                 onAdDisplayFailed( placementId, adapterError );
@@ -775,11 +763,8 @@ public class SmaatoMediationAdapter
         {
             final String placementId = interstitialAd.getAdSpaceId();
 
-            // Allow the next rewarded ad to load
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.remove( placementId );
-            }
+            // Allow the next interstitial ad to load
+            interstitialAds.remove( placementId, interstitialAd );
 
             log( "Interstitial displayed" );
             onAdDisplayed( placementId );
@@ -807,10 +792,8 @@ public class SmaatoMediationAdapter
         {
             log( "Interstitial expired" );
 
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.remove( interstitialAd.getAdSpaceId() );
-            }
+            // Only remove the expired instance, a newer ad may have already been loaded for the same ad space id
+            interstitialAds.remove( interstitialAd.getAdSpaceId(), interstitialAd );
         }
 
         private static MaxAdapterError toMaxError(final InterstitialError smaatoInterstitialError)
@@ -851,12 +834,9 @@ public class SmaatoMediationAdapter
         {
             final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.put( placementId, rewardedInterstitialAd );
-            }
+            rewardedAds.put( placementId, rewardedInterstitialAd );
 
-            log( "Rewarded ad loaded for placement: " + placementId + "..." );
+            log( "Rewarded ad loaded for placement: " + placementId + "... (" + rewardedAds.size() + " rewarded ads loaded)" );
             onAdLoaded( placementId, rewardedInterstitialAd.getCreativeId() );
         }
 
@@ -878,10 +858,7 @@ public class SmaatoMediationAdapter
             {
                 final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
-                synchronized ( rewardedAdsLock )
-                {
-                    rewardedAds.remove( placementId );
-                }
+                rewardedAds.remove( placementId, rewardedInterstitialAd );
 
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", rewardedError.ordinal(), rewardedError.name() );
                 onAdDisplayFailed( placementId, adapterError );
@@ -894,10 +871,7 @@ public class SmaatoMediationAdapter
             final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
             // Allow the next rewarded ad to load
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.remove( placementId );
-            }
+            rewardedAds.remove( placementId, rewardedInterstitialAd );
 
             log( "Rewarded ad displayed" );
             onAdDisplayed( placementId );
@@ -941,10 +915,8 @@ public class SmaatoMediationAdapter
         {
             log( "Rewarded ad expired" );
 
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.remove( rewardedInterstitialAd.getAdSpaceId() );
-            }
+            // Only remove the expired instance, a newer ad may have already been loaded for the same ad space id
+            rewardedAds.remove( rewardedInterstitialAd.getAdSpaceId(), rewardedInterstitialAd );
         }
 
         private void onAdLoaded(final String placementId, final String creativeId)
@@ -42,6 +42,10 @@ import com.snap.adkit.external.SnapAdSize;
 import com.snap.adkit.external.SnapAdVisible;
 import com.snap.adkit.external.SnapBannerAdImpressionRecorded;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SnapMediationAdapter
@@ -266,118 +270,176 @@ public class SnapMediationAdapter
             extends MediationAdapterRouter
             implements SnapAdEventListener
     {
+        private static final String NO_FILL_ERROR_MESSAGE = "No Fill";
+
+        // Marks event classes that no handler matches, so they are not resolved again
+        private static final EventHandler NO_EVENT_HANDLER = new EventHandler()
+        {
+            @Override
+            public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId) { }
+        };
+
+        // Handlers in registration order, only written in the constructor
+        private final List<RegisteredEventHandler>                       registeredEventHandlers = new ArrayList<>();
+        // Handlers resolved per concrete event class, so each event is dispatched with a single lookup instead of an `instanceof` chain
+        private final Map<Class<? extends SnapAdKitEvent>, EventHandler> resolvedEventHandlers   = new ConcurrentHashMap<>();
+
         private OnCompletionListener onCompletionListener;
 
         private boolean hasGrantedReward = false;
 
-        //TODO: marked for deletion, pending SDK change.
-        @Override
-        void initialize(final MaxAdapterInitializationParameters parameters, final Activity activity, final OnCompletionListener onCompletionListener) { }
-
-        @Override
-        public void onEvent(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+        SnapRouter()
         {
-            if ( snapAdKitEvent instanceof SnapAdInitSucceeded )
+            registerEventHandler( SnapAdInitSucceeded.class, new EventHandler()
             {
-                log( "Snap SDK initialized" );
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+                {
+                    log( "Snap SDK initialized" );
 
-                status = InitializationStatus.INITIALIZED_SUCCESS;
+                    status = InitializationStatus.INITIALIZED_SUCCESS;
 
-                if ( onCompletionListener != null )
+                    if ( onCompletionListener != null )
+                    {
+                        onCompletionListener.onCompletion( status, null );
+                        onCompletionListener = null;
+                    }
+                }
+            } );
+
+            registerEventHandler( SnapAdInitFailed.class, new EventHandler()
+            {
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
                 {
-                    onCompletionListener.onCompletion( status, null );
-                    onCompletionListener = null;
+                    String errorString = "unknown";
+                    final Throwable throwable = ( (SnapAdInitFailed) snapAdKitEvent ).getThrowable();
+                    if ( throwable != null )
+                    {
+                        errorString = throwable.getLocalizedMessage();
+                    }
+
+                    log( "Snap SDK initialization failed due to error: " + errorString + "..." );
+
+                    status = InitializationStatus.INITIALIZED_FAILURE;
+
+                    if ( onCompletionListener != null )
+                    {
+                        onCompletionListener.onCompletion( status, errorString );
+                        onCompletionListener = null;
+                    }
                 }
-            }
-            else if ( snapAdKitEvent instanceof SnapAdInitFailed )
+            } );
+
+            registerEventHandler( SnapAdLoadSucceeded.class, new EventHandler()
             {
-                String errorString = "unknown";
-                final Throwable throwable = ( (SnapAdInitFailed) snapAdKitEvent ).getThrowable();
-                if ( throwable != null )
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
                 {
-                    errorString = throwable.getLocalizedMessage();
+                    log( "Ad loaded for slot id: " + slotId + "..." );
+                    onAdLoaded( slotId );
                 }
+            } );
 
-                log( "Snap SDK initialization failed due to error: " + errorString + "..." );
+            registerEventHandler( SnapAdLoadFailed.class, new EventHandler()
+            {
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+                {
+                    final Throwable throwable = ( (SnapAdLoadFailed) snapAdKitEvent ).getThrowable();
+                    final String errorString = ( throwable != null ) ? throwable.getMessage() : "unknown";
 
-                status = InitializationStatus.INITIALIZED_FAILURE;
+                    log( "Ad load failed for slot id: " + slotId + "with error: " + errorString + "..." );
+                    onAdLoadFailed( slotId, toMaxError( throwable ) );
+                }
+            } );
 
-                if ( onCompletionListener != null )
+            registerEventHandler( SnapAdVisible.class, new EventHandler()
+            {
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
                 {
-                    onCompletionListener.onCompletion( status, errorString );
-                    onCompletionListener = null;
+                    log( "Ad shown for slot id: " + slotId + "..." );
                 }
-            }
-            else if ( snapAdKitEvent instanceof SnapAdLoadSucceeded )
+            } );
+
+            registerEventHandler( SnapAdImpressionHappened.class, new EventHandler()
             {
-                log( "Ad loaded for slot id: " + slotId + "..." );
-                onAdLoaded( slotId );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdLoadFailed )
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+                {
+                    log( "Ad logging impression for slot id: " + slotId + "..." );
+                    onAdDisplayed( slotId );
+                }
+            } );
+
+            registerEventHandler( SnapAdClicked.class, new EventHandler()
+            {
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+                {
+                    log( "Ad clicked for slot id: " + slotId + "..." );
+                    onAdClicked( slotId );
+                }
+            } );
+
+            registerEventHandler( SnapAdDismissed.class, new EventHandler()
             {
-                String errorString = "unknown";
-                MaxAdapterError adapterError = MaxAdapterError.UNSPECIFIED;
-                final Throwable throwable = ( (SnapAdLoadFailed) snapAdKitEvent ).getThrowable();
-                if ( throwable != null )
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
                 {
-                    errorString = throwable.getMessage();
+                    log( "Ad dismissed for slot id: " + slotId + "..." );
 
-                    if ( "No Fill".equalsIgnoreCase( errorString ) )
+                    if ( hasGrantedReward || shouldAlwaysRewardUser( slotId ) )
                     {
-                        adapterError = MaxAdapterError.NO_FILL;
-                    }
-                    else
-                    {
-                        adapterError = new MaxAdapterError( MaxAdapterError.UNSPECIFIED, 0, errorString );
+                        MaxReward reward = getReward( slotId );
+
+                        log( "Rewarded ad user with reward: " + reward + " for slot id: " + slotId );
+                        onUserRewarded( slotId, reward );
+
+                        // clear hasGrantedReward
+                        hasGrantedReward = false;
                     }
+
+                    onAdHidden( slotId );
                 }
+            } );
 
-                log( "Ad load failed for slot id: " + slotId + "with error: " + errorString + "..." );
-                onAdLoadFailed( slotId, adapterError );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdVisible )
-            {
-                log( "Ad shown for slot id: " + slotId + "..." );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdImpressionHappened )
-            {
-                log( "Ad logging impression for slot id: " + slotId + "..." );
-                onAdDisplayed( slotId );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdClicked )
-            {
-                log( "Ad clicked for slot id: " + slotId + "..." );
-                onAdClicked( slotId );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdDismissed )
+            registerEventHandler( SnapAdRewardEarned.class, new EventHandler()
             {
-                log( "Ad dismissed for slot id: " + slotId + "..." );
-
-                if ( hasGrantedReward || shouldAlwaysRewardUser( slotId ) )
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
                 {
-                    MaxReward reward = getReward( slotId );
+                    log( "Rewarded ad completed for slot id: " + slotId + "..." );
+                    onRewardedAdVideoCompleted( slotId );
 
-                    log( "Rewarded ad user with reward: " + reward + " for slot id: " + slotId );
-                    onUserRewarded( slotId, reward );
-
-                    // clear hasGrantedReward
-                    hasGrantedReward = false;
+                    hasGrantedReward = true;
                 }
+            } );
 
-                onAdHidden( slotId );
-            }
-            else if ( snapAdKitEvent instanceof SnapAdRewardEarned )
+            registerEventHandler( SnapBannerAdImpressionRecorded.class, new EventHandler()
             {
-                log( "Rewarded ad completed for slot id: " + slotId + "..." );
-                onRewardedAdVideoCompleted( slotId );
+                @Override
+                public void handle(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+                {
+                    // Note: SnapAdImpressionHappened event will not be sent for banners. Extra impressions will not be recorded.
+                    log( "Banner ad impression recorded for slot id: " + slotId + "..." );
+                    onAdDisplayed( slotId );
+                }
+            } );
+        }
 
-                hasGrantedReward = true;
-            }
-            else if ( snapAdKitEvent instanceof SnapBannerAdImpressionRecorded )
+        //TODO: marked for deletion, pending SDK change.
+        @Override
+        void initialize(final MaxAdapterInitializationParameters parameters, final Activity activity, final OnCompletionListener onCompletionListener) { }
+
+        @Override
+        public void onEvent(final SnapAdKitEvent snapAdKitEvent, final String slotId)
+        {
+            final EventHandler eventHandler = findEventHandler( snapAdKitEvent.getClass() );
+            if ( eventHandler != null )
             {
-                // Note: SnapAdImpressionHappened event will not be sent for banners. Extra impressions will not be recorded.
-                log( "Banner ad impression recorded for slot id: " + slotId + "..." );
-                onAdDisplayed( slotId );
+                eventHandler.handle( snapAdKitEvent, slotId );
             }
             else
             {
@@ -389,5 +451,68 @@ public class SnapMediationAdapter
         {
             this.onCompletionListener = onCompletionListener;
         }
+
+        private void registerEventHandler(final Class<? extends SnapAdKitEvent> eventClass, final EventHandler eventHandler)
+        {
+            registeredEventHandlers.add( new RegisteredEventHandler( eventClass, eventHandler ) );
+        }
+
+        private EventHandler findEventHandler(final Class<? extends SnapAdKitEvent> eventClass)
+        {
+            EventHandler eventHandler = resolvedEventHandlers.get( eventClass );
+            if ( eventHandler == null )
+            {
+                eventHandler = resolveEventHandler( eventClass );
+                resolvedEventHandlers.put( eventClass, eventHandler );
+            }
+
+            return ( eventHandler != NO_EVENT_HANDLER ) ? eventHandler : null;
+        }
+
+        private EventHandler resolveEventHandler(final Class<? extends SnapAdKitEvent> eventClass)
+        {
+            // Subclasses and obfuscated implementations of a known event fall back to an `instanceof` match. If several handlers match, the one for the
+            // most specific event class wins, regardless of registration order.
+            RegisteredEventHandler bestMatch = null;
+            for ( final RegisteredEventHandler registeredEventHandler : registeredEventHandlers )
+            {
+                if ( registeredEventHandler.eventClass == eventClass ) return registeredEventHandler.eventHandler;
+
+                if ( registeredEventHandler.eventClass.isAssignableFrom( eventClass )
+                        && ( bestMatch == null || bestMatch.eventClass.isAssignableFrom( registeredEventHandler.eventClass ) ) )
+                {
+                    bestMatch = registeredEventHandler;
+                }
+            }
+
+            return ( bestMatch != null ) ? bestMatch.eventHandler : NO_EVENT_HANDLER;
+        }
+
+        private static MaxAdapterError toMaxError(final Throwable throwable)
+        {
+            if ( throwable == null ) return MaxAdapterError.UNSPECIFIED;
+
+            final String errorString = throwable.getMessage();
+            if ( NO_FILL_ERROR_MESSAGE.equalsIgnoreCase( errorString ) ) return MaxAdapterError.NO_FILL;
+
+            return new MaxAdapterError( MaxAdapterError.UNSPECIFIED, 0, errorString );
+        }
+
+        private interface EventHandler
+        {
+            void handle(SnapAdKitEvent snapAdKitEvent, String slotId);
+        }
+
+        private static class RegisteredEventHandler
+        {
+            private final Class<? extends SnapAdKitEvent> eventClass;
+            private final EventHandler                    eventHandler;
+
+            private RegisteredEventHandler(final Class<? extends SnapAdKitEvent> eventClass, final EventHandler eventHandler)
+            {
+                this.eventClass = eventClass;
+                this.eventHandler = eventHandler;
+            }
+        }
     }
 }
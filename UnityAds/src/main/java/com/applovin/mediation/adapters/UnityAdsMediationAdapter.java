@@ -3,6 +3,7 @@ package com.applovin.mediation.adapters;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Looper;
 
 import com.applovin.mediation.MaxAdFormat;
 import com.applovin.mediation.adapter.MaxAdViewAdapter;
@@ -36,9 +37,20 @@ import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
 
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a mediation adapterWrapper for the Unity Ads SDK
@@ -47,8 +59,12 @@ public class UnityAdsMediationAdapter
         extends MediationAdapterBase
         implements MaxSignalProvider, MaxInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter
 {
-    private static final AtomicBoolean        initialized = new AtomicBoolean();
-    private static       InitializationStatus initializationStatus;
+    private static final long FRAME_BUDGET_MILLIS = 8;
+
+    private static final AtomicBoolean                              initialized     = new AtomicBoolean();
+    private static final ConcurrentMap<String, MainThreadCallStats> mainThreadStats = new ConcurrentHashMap<>();
+    private static       InitializationStatus                       initializationStatus;
+    private static       ScheduledExecutorService                   mainThreadStackSampler;
 
     private String     biddingAdId;
     private BannerView bannerView;
@@ -70,32 +86,41 @@ public class UnityAdsMediationAdapter
             log( "Initializing UnityAds SDK with game id: " + gameId + "..." );
             initializationStatus = InitializationStatus.INITIALIZING;
 
-            MediationMetaData mediationMetaData = new MediationMetaData( context );
-            mediationMetaData.setName( "MAX" );
-            mediationMetaData.setVersion( AppLovinSdk.VERSION );
-            mediationMetaData.set( "adapter_version", getAdapterVersion() );
-            mediationMetaData.commit();
+            MainThreadSection section = startMainThreadSection( "initialize", parameters );
 
-            UnityAds.setDebugMode( parameters.isTesting() );
-
-            UnityAds.initialize( context, gameId, parameters.isTesting(), new IUnityAdsInitializationListener()
+            try
             {
-                @Override
-                public void onInitializationComplete()
-                {
-                    log( "UnityAds SDK initialized" );
-                    initializationStatus = InitializationStatus.INITIALIZED_SUCCESS;
-                    onCompletionListener.onCompletion( InitializationStatus.INITIALIZED_SUCCESS, null );
-                }
+                MediationMetaData mediationMetaData = new MediationMetaData( context );
+                mediationMetaData.setName( "MAX" );
+                mediationMetaData.setVersion( AppLovinSdk.VERSION );
+                mediationMetaData.set( "adapter_version", getAdapterVersion() );
+                mediationMetaData.commit();
 
-                @Override
-                public void onInitializationFailed(final UnityAds.UnityAdsInitializationError error, final String message)
+                UnityAds.setDebugMode( parameters.isTesting() );
+
+                UnityAds.initialize( context, gameId, parameters.isTesting(), new IUnityAdsInitializationListener()
                 {
-                    log( "UnityAds SDK failed to initialize with error: " + message );
-                    initializationStatus = InitializationStatus.INITIALIZED_FAILURE;
-                    onCompletionListener.onCompletion( InitializationStatus.INITIALIZED_FAILURE, message );
-                }
-            } );
+                    @Override
+                    public void onInitializationComplete()
+                    {
+                        log( "UnityAds SDK initialized" );
+                        initializationStatus = InitializationStatus.INITIALIZED_SUCCESS;
+                        onCompletionListener.onCompletion( InitializationStatus.INITIALIZED_SUCCESS, null );
+                    }
+
+                    @Override
+                    public void onInitializationFailed(final UnityAds.UnityAdsInitializationError error, final String message)
+                    {
+                        log( "UnityAds SDK failed to initialize with error: " + message );
+                        initializationStatus = InitializationStatus.INITIALIZED_FAILURE;
+                        onCompletionListener.onCompletion( InitializationStatus.INITIALIZED_FAILURE, message );
+                    }
+                } );
+            }
+            finally
+            {
+                endMainThreadSection( section );
+            }
         }
         else
         {
@@ -124,6 +149,9 @@ public class UnityAdsMediationAdapter
             bannerView.destroy();
             bannerView = null;
         }
+
+        // Stop the sampler thread - it is recreated if a later adapter instance monitors the main thread again
+        shutdownMainThreadStackSampler();
     }
 
     @Override
@@ -181,36 +209,45 @@ public class UnityAdsMediationAdapter
         String placementId = parameters.getThirdPartyAdPlacementId();
         log( "Showing interstitial ad for placement \"" + placementId + "\"..." );
 
-        UnityAds.show( activity, placementId, createAdShowOptions(), new IUnityAdsShowListener()
+        MainThreadSection section = startMainThreadSection( "showInterstitialAd", parameters );
+
+        try
         {
-            @Override
-            public void onUnityAdsShowFailure(final String placementId, final UnityAds.UnityAdsShowError error, final String message)
+            UnityAds.show( activity, placementId, createAdShowOptions(), new IUnityAdsShowListener()
             {
-                log( "Interstitial placement \"" + placementId + "\" failed to display with error: " + error + ": " + message );
-                listener.onInterstitialAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed", error.ordinal(), message ) );
-            }
+                @Override
+                public void onUnityAdsShowFailure(final String placementId, final UnityAds.UnityAdsShowError error, final String message)
+                {
+                    log( "Interstitial placement \"" + placementId + "\" failed to display with error: " + error + ": " + message );
+                    listener.onInterstitialAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed", error.ordinal(), message ) );
+                }
 
-            @Override
-            public void onUnityAdsShowStart(final String placementId)
-            {
-                log( "Interstitial placement \"" + placementId + "\" displayed" );
-                listener.onInterstitialAdDisplayed();
-            }
+                @Override
+                public void onUnityAdsShowStart(final String placementId)
+                {
+                    log( "Interstitial placement \"" + placementId + "\" displayed" );
+                    listener.onInterstitialAdDisplayed();
+                }
 
-            @Override
-            public void onUnityAdsShowClick(final String placementId)
-            {
-                log( "Interstitial placement \"" + placementId + "\" clicked" );
-                listener.onInterstitialAdClicked();
-            }
+                @Override
+                public void onUnityAdsShowClick(final String placementId)
+                {
+                    log( "Interstitial placement \"" + placementId + "\" clicked" );
+                    listener.onInterstitialAdClicked();
+                }
 
-            @Override
-            public void onUnityAdsShowComplete(final String placementId, final UnityAds.UnityAdsShowCompletionState state)
-            {
-                log( "Interstitial placement \"" + placementId + "\" hidden with completion state: " + state );
-                listener.onInterstitialAdHidden();
-            }
-        } );
+                @Override
+                public void onUnityAdsShowComplete(final String placementId, final UnityAds.UnityAdsShowCompletionState state)
+                {
+                    log( "Interstitial placement \"" + placementId + "\" hidden with completion state: " + state );
+                    listener.onInterstitialAdHidden();
+                }
+            } );
+        }
+        finally
+        {
+            endMainThreadSection( section );
+        }
     }
 
     @Override
@@ -255,42 +292,51 @@ public class UnityAdsMediationAdapter
         // Configure userReward from server.
         configureReward( parameters );
 
-        UnityAds.show( activity, placementId, createAdShowOptions(), new IUnityAdsShowListener()
+        MainThreadSection section = startMainThreadSection( "showRewardedAd", parameters );
+
+        try
         {
-            @Override
-            public void onUnityAdsShowFailure(final String placementId, final UnityAds.UnityAdsShowError error, final String message)
+            UnityAds.show( activity, placementId, createAdShowOptions(), new IUnityAdsShowListener()
             {
-                log( "Rewarded ad placement \"" + placementId + "\" failed to display with error: " + error + ": " + message );
-                listener.onRewardedAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed", error.ordinal(), message ) );
-            }
+                @Override
+                public void onUnityAdsShowFailure(final String placementId, final UnityAds.UnityAdsShowError error, final String message)
+                {
+                    log( "Rewarded ad placement \"" + placementId + "\" failed to display with error: " + error + ": " + message );
+                    listener.onRewardedAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed", error.ordinal(), message ) );
+                }
 
-            @Override
-            public void onUnityAdsShowStart(final String placementId)
-            {
-                log( "Rewarded ad placement \"" + placementId + "\" displayed" );
-                listener.onRewardedAdDisplayed();
-                listener.onRewardedAdVideoStarted();
-            }
+                @Override
+                public void onUnityAdsShowStart(final String placementId)
+                {
+                    log( "Rewarded ad placement \"" + placementId + "\" displayed" );
+                    listener.onRewardedAdDisplayed();
+                    listener.onRewardedAdVideoStarted();
+                }
 
-            @Override
-            public void onUnityAdsShowClick(final String placementId)
-            {
-                log( "Rewarded ad placement \"" + placementId + "\" clicked" );
-                listener.onRewardedAdClicked();
-            }
+                @Override
+                public void onUnityAdsShowClick(final String placementId)
+                {
+                    log( "Rewarded ad placement \"" + placementId + "\" clicked" );
+                    listener.onRewardedAdClicked();
+                }
 
-            @Override
-            public void onUnityAdsShowComplete(final String placementId, final UnityAds.UnityAdsShowCompletionState state)
-            {
-                log( "Rewarded ad placement \"" + placementId + "\" hidden with completion state: " + state );
-                listener.onRewardedAdVideoCompleted();
-                if ( state == UnityAds.UnityAdsShowCompletionState.COMPLETED || shouldAlwaysRewardUser() )
+                @Override
+                public void onUnityAdsShowComplete(final String placementId, final UnityAds.UnityAdsShowCompletionState state)
                 {
-                    listener.onUserRewarded( getReward() );
+                    log( "Rewarded ad placement \"" + placementId + "\" hidden with completion state: " + state );
+                    listener.onRewardedAdVideoCompleted();
+                    if ( state == UnityAds.UnityAdsShowCompletionState.COMPLETED || shouldAlwaysRewardUser() )
+                    {
+                        listener.onUserRewarded( getReward() );
+                    }
+                    listener.onRewardedAdHidden();
                 }
-                listener.onRewardedAdHidden();
-            }
-        } );
+            } );
+        }
+        finally
+        {
+            endMainThreadSection( section );
+        }
     }
 
     @Override
@@ -311,38 +357,47 @@ public class UnityAdsMediationAdapter
 
         updatePrivacyConsent( parameters, activity.getApplicationContext() );
 
-        bannerView = new BannerView( activity, placementId, toUnityBannerSize( adFormat ) );
-        bannerView.setListener( new BannerView.IListener()
+        MainThreadSection section = startMainThreadSection( "loadAdViewAd", parameters );
+
+        try
         {
-            @Override
-            public void onBannerLoaded(final BannerView bannerAdView)
+            bannerView = new BannerView( activity, placementId, toUnityBannerSize( adFormat ) );
+            bannerView.setListener( new BannerView.IListener()
             {
-                log( "Banner ad loaded" );
-                listener.onAdViewAdLoaded( bannerAdView );
-            }
+                @Override
+                public void onBannerLoaded(final BannerView bannerAdView)
+                {
+                    log( "Banner ad loaded" );
+                    listener.onAdViewAdLoaded( bannerAdView );
+                }
 
-            @Override
-            public void onBannerFailedToLoad(final BannerView bannerAdView, final BannerErrorInfo errorInfo)
-            {
-                log( "Banner ad failed to load" );
-                listener.onAdViewAdLoadFailed( toMaxError( errorInfo ) );
-            }
+                @Override
+                public void onBannerFailedToLoad(final BannerView bannerAdView, final BannerErrorInfo errorInfo)
+                {
+                    log( "Banner ad failed to load" );
+                    listener.onAdViewAdLoadFailed( toMaxError( errorInfo ) );
+                }
 
-            @Override
-            public void onBannerClick(final BannerView bannerAdView)
-            {
-                log( "Banner ad clicked" );
-                listener.onAdViewAdClicked();
-            }
+                @Override
+                public void onBannerClick(final BannerView bannerAdView)
+                {
+                    log( "Banner ad clicked" );
+                    listener.onAdViewAdClicked();
+                }
 
-            @Override
-            public void onBannerLeftApplication(final BannerView bannerView)
-            {
-                log( "Banner ad left application" );
-            }
-        } );
+                @Override
+                public void onBannerLeftApplication(final BannerView bannerView)
+                {
+                    log( "Banner ad left application" );
+                }
+            } );
 
-        bannerView.load();
+            bannerView.load();
+        }
+        finally
+        {
+            endMainThreadSection( section );
+        }
     }
 
     private UnityAdsLoadOptions createAdLoadOptions(final MaxAdapterResponseParameters parameters)
@@ -467,36 +522,46 @@ public class UnityAdsMediationAdapter
 
     private void updatePrivacyConsent(final MaxAdapterParameters parameters, final Context context)
     {
-        MetaData privacyMetaData = new MetaData( context );
+        // `MetaData.commit()` writes synchronously and is called from every load
+        MainThreadSection section = startMainThreadSection( "updatePrivacyConsent", parameters );
 
-        if ( getWrappingSdk().getConfiguration().getConsentDialogState() == AppLovinSdkConfiguration.ConsentDialogState.APPLIES )
+        try
         {
-            Boolean hasUserConsent = getPrivacySetting( "hasUserConsent", parameters );
-            if ( hasUserConsent != null )
+            MetaData privacyMetaData = new MetaData( context );
+
+            if ( getWrappingSdk().getConfiguration().getConsentDialogState() == AppLovinSdkConfiguration.ConsentDialogState.APPLIES )
             {
-                privacyMetaData.set( "gdpr.consent", hasUserConsent );
-                privacyMetaData.commit();
+                Boolean hasUserConsent = getPrivacySetting( "hasUserConsent", parameters );
+                if ( hasUserConsent != null )
+                {
+                    privacyMetaData.set( "gdpr.consent", hasUserConsent );
+                    privacyMetaData.commit();
+                }
             }
-        }
 
-        if ( AppLovinSdk.VERSION_CODE >= 91100 )
-        {
-            Boolean isDoNotSell = getPrivacySetting( "isDoNotSell", parameters );
-            if ( isDoNotSell != null ) // CCPA compliance - https://unityads.unity3d.com/help/legal/gdpr
+            if ( AppLovinSdk.VERSION_CODE >= 91100 )
             {
-                privacyMetaData.set( "privacy.consent", !isDoNotSell ); // isDoNotSell means user has opted out and is equivalent to false.
-                privacyMetaData.commit();
+                Boolean isDoNotSell = getPrivacySetting( "isDoNotSell", parameters );
+                if ( isDoNotSell != null ) // CCPA compliance - https://unityads.unity3d.com/help/legal/gdpr
+                {
+                    privacyMetaData.set( "privacy.consent", !isDoNotSell ); // isDoNotSell means user has opted out and is equivalent to false.
+                    privacyMetaData.commit();
+                }
             }
-        }
 
-        privacyMetaData.set( "privacy.mode", "mixed" );
-        privacyMetaData.commit();
+            privacyMetaData.set( "privacy.mode", "mixed" );
+            privacyMetaData.commit();
 
-        Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
-        if ( isAgeRestrictedUser != null )
+            Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
+            if ( isAgeRestrictedUser != null )
+            {
+                privacyMetaData.set( "user.nonbehavioral", isAgeRestrictedUser );
+                privacyMetaData.commit();
+            }
+        }
+        finally
         {
-            privacyMetaData.set( "user.nonbehavioral", isAgeRestrictedUser );
-            privacyMetaData.commit();
+            endMainThreadSection( section );
         }
     }
 
@@ -521,4 +586,165 @@ public class UnityAdsMediationAdapter
         // NOTE: `activity` can only be null in 11.1.0+, and `getApplicationContext()` is introduced in 11.1.0
         return ( activity != null ) ? activity.getApplicationContext() : getApplicationContext();
     }
+
+    //region Main Thread Budget Monitor
+
+    /**
+     * Returns the main thread time spent per adapter call site as JSON. Only populated when the publisher opts in via the {@code unity_monitor_main_thread} local extra parameter.
+     */
+    public static String getMainThreadStatsJson()
+    {
+        try
+        {
+            JSONObject callSites = new JSONObject();
+            for ( Map.Entry<String, MainThreadCallStats> entry : mainThreadStats.entrySet() )
+            {
+                callSites.put( entry.getKey(), entry.getValue().toJson() );
+            }
+
+            JSONObject json = new JSONObject();
+            json.put( "network", "unity" );
+            json.put( "frame_budget_ms", FRAME_BUDGET_MILLIS );
+            json.put( "call_sites", callSites );
+
+            return json.toString();
+        }
+        catch ( JSONException ignored )
+        {
+            return "{}";
+        }
+    }
+
+    private static boolean shouldMonitorMainThread(final MaxAdapterParameters parameters)
+    {
+        if ( AppLovinSdk.VERSION_CODE < 11_00_00_00 ) return false;
+
+        Object monitorMainThread = parameters.getLocalExtraParameters().get( "unity_monitor_main_thread" );
+        return monitorMainThread instanceof String && "true".equalsIgnoreCase( (String) monitorMainThread );
+    }
+
+    private static synchronized ScheduledFuture<?> scheduleMainThreadStackSample(final Runnable stackSampleTask)
+    {
+        if ( mainThreadStackSampler == null )
+        {
+            mainThreadStackSampler = Executors.newSingleThreadScheduledExecutor();
+        }
+
+        return mainThreadStackSampler.schedule( stackSampleTask, FRAME_BUDGET_MILLIS, TimeUnit.MILLISECONDS );
+    }
+
+    private static synchronized void shutdownMainThreadStackSampler()
+    {
+        if ( mainThreadStackSampler == null ) return;
+
+        mainThreadStackSampler.shutdownNow();
+        mainThreadStackSampler = null;
+    }
+
+    private MainThreadSection startMainThreadSection(final String callSite, final MaxAdapterParameters parameters)
+    {
+        if ( Looper.myLooper() != Looper.getMainLooper() || !shouldMonitorMainThread( parameters ) ) return null;
+
+        return new MainThreadSection( callSite );
+    }
+
+    private void endMainThreadSection(final MainThreadSection section)
+    {
+        if ( section == null ) return;
+
+        long elapsedMillis = section.end();
+        if ( elapsedMillis > FRAME_BUDGET_MILLIS )
+        {
+            String stackSample = section.stackSample;
+            log( "Main thread budget of " + FRAME_BUDGET_MILLIS + "ms exceeded by " + section.callSite + ": " + elapsedMillis + "ms" + ( stackSample != null ? ", main thread stack sample:\n" + stackSample : "" ) );
+        }
+    }
+
+    /**
+     * Measures a block of adapter work on the main thread. If the block is still running once the frame budget has elapsed, a stack sample of the main thread is
+     * captured from a background thread so the slow call can be attributed.
+     */
+    private static class MainThreadSection
+            implements Runnable
+    {
+        private final String             callSite;
+        private final long               startNanos;
+        private final ScheduledFuture<?> stackSampleFuture;
+        private volatile String          stackSample;
+
+        MainThreadSection(final String callSite)
+        {
+            this.callSite = callSite;
+            this.startNanos = System.nanoTime();
+            this.stackSampleFuture = scheduleMainThreadStackSample( this );
+        }
+
+        @Override
+        public void run()
+        {
+            StringBuilder stackSample = new StringBuilder();
+            for ( StackTraceElement element : Looper.getMainLooper().getThread().getStackTrace() )
+            {
+                stackSample.append( "\tat " ).append( element ).append( '\n' );
+            }
+
+            this.stackSample = stackSample.toString();
+        }
+
+        long end()
+        {
+            stackSampleFuture.cancel( false );
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startNanos );
+
+            MainThreadCallStats stats = mainThreadStats.get( callSite );
+            if ( stats == null )
+            {
+                mainThreadStats.putIfAbsent( callSite, new MainThreadCallStats() );
+                stats = mainThreadStats.get( callSite );
+            }
+            stats.record( elapsedMillis );
+
+            return elapsedMillis;
+        }
+    }
+
+    private static class MainThreadCallStats
+    {
+        private final AtomicLong count           = new AtomicLong();
+        private final AtomicLong totalMillis     = new AtomicLong();
+        private final AtomicLong maxMillis       = new AtomicLong();
+        private final AtomicLong overBudgetCount = new AtomicLong();
+
+        void record(final long elapsedMillis)
+        {
+            count.incrementAndGet();
+            totalMillis.addAndGet( elapsedMillis );
+
+            if ( elapsedMillis > FRAME_BUDGET_MILLIS )
+            {
+                overBudgetCount.incrementAndGet();
+            }
+
+            long currentMax;
+            do
+            {
+                currentMax = maxMillis.get();
+            }
+            while ( elapsedMillis > currentMax && !maxMillis.compareAndSet( currentMax, elapsedMillis ) );
+        }
+
+        JSONObject toJson() throws JSONException
+        {
+            JSONObject json = new JSONObject();
+            json.put( "count", count.get() );
+            json.put( "total_ms", totalMillis.get() );
+            json.put( "max_ms", maxMillis.get() );
+            json.put( "over_budget_count", overBudgetCount.get() );
+
+            return json;
+        }
+    }
+
+    //endregion
 }
@@ -3,6 +3,7 @@ package com.applovin.mediation.adapters;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.view.Gravity;
 
 import com.applovin.mediation.MaxAdFormat;
@@ -38,6 +39,9 @@ import com.vungle.warren.VungleSettings;
 import com.vungle.warren.error.VungleException;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class VungleMediationAdapter
@@ -47,6 +51,15 @@ public class VungleMediationAdapter
     private static final AtomicBoolean        initialized = new AtomicBoolean();
     private static       InitializationStatus status;
 
+    // How long a fullscreen ad that the SDK reported as cached is trusted without asking the SDK again. Well below Vungle's ad expiry, and the show
+    // path still checks with the SDK.
+    private static final long READY_AD_TRUST_MILLIS = TimeUnit.MINUTES.toMillis( 5 );
+
+    // Fullscreen ads the SDK recently reported as cached (load success, auto-cache or a positive `Vungle.canPlayAd(...)`), keyed by placement id.
+    // A fresh hit answers a load without the blocking `Vungle.canPlayAd(...)` disk lookup, e.g. the load MAX issues right after `onAdHidden` for
+    // auto-cached placements. Misses and stale hits fall back to the SDK.
+    private static final ConcurrentMap<String, ReadyAd> readyFullscreenAds = new ConcurrentHashMap<>();
+
     private VungleBanner adViewAd;
 
     // Explicit default constructor declaration
@@ -98,6 +111,7 @@ public class VungleMediationAdapter
                 public void onAutoCacheAdAvailable(final String id)
                 {
                     log( "Auto-cached ad: " + id );
+                    readyFullscreenAds.put( id, new ReadyAd( "" ) );
                 }
             };
 
@@ -175,17 +189,7 @@ public class VungleMediationAdapter
             return;
         }
 
-        if ( isBiddingAd )
-        {
-            if ( Vungle.canPlayAd( placementId, bidResponse ) )
-            {
-                log( "Interstitial ad loaded" );
-                listener.onInterstitialAdLoaded();
-
-                return;
-            }
-        }
-        else if ( Vungle.canPlayAd( placementId ) )
+        if ( isFullscreenAdReady( placementId, bidResponse ) )
         {
             log( "Interstitial ad loaded" );
             listener.onInterstitialAdLoaded();
@@ -267,17 +271,7 @@ public class VungleMediationAdapter
             return;
         }
 
-        if ( isBiddingAd )
-        {
-            if ( Vungle.canPlayAd( placementId, bidResponse ) )
-            {
-                log( "Rewarded ad loaded" );
-                listener.onRewardedAdLoaded();
-
-                return;
-            }
-        }
-        else if ( Vungle.canPlayAd( placementId ) )
+        if ( isFullscreenAdReady( placementId, bidResponse ) )
         {
             log( "Rewarded ad loaded" );
             listener.onRewardedAdLoaded();
@@ -457,19 +451,64 @@ public class VungleMediationAdapter
 
     //region Helper Methods
 
+    private boolean isFullscreenAdReady(final String placementId, final String bidResponse)
+    {
+        final boolean isBiddingAd = AppLovinSdkUtils.isValidString( bidResponse );
+        final String adMarkup = isBiddingAd ? bidResponse : "";
+
+        final ReadyAd readyAd = readyFullscreenAds.get( placementId );
+        if ( readyAd != null && readyAd.isFresh( adMarkup ) )
+        {
+            log( "Found cached ad for placement: " + placementId + " without querying the SDK" );
+            return true;
+        }
+
+        // Not tracked (e.g. cached by the SDK in a previous session) or not confirmed recently - ask the SDK
+        final boolean canPlayAd = isBiddingAd ? Vungle.canPlayAd( placementId, bidResponse ) : Vungle.canPlayAd( placementId );
+        if ( canPlayAd )
+        {
+            readyFullscreenAds.put( placementId, new ReadyAd( adMarkup ) );
+        }
+        else if ( readyAd != null )
+        {
+            // Ad was consumed or expired outside of this adapter
+            readyFullscreenAds.remove( placementId, readyAd );
+        }
+
+        return canPlayAd;
+    }
+
     private void loadFullscreenAd(final MaxAdapterResponseParameters parameters, final LoadAdCallback loadAdCallback)
     {
         AdConfig adConfig = createAdConfig( parameters.getServerParameters() );
-        String bidResponse = parameters.getBidResponse();
-        String placementId = parameters.getThirdPartyAdPlacementId();
+        final String bidResponse = parameters.getBidResponse();
+        final String placementId = parameters.getThirdPartyAdPlacementId();
+        final String adMarkup = AppLovinSdkUtils.isValidString( bidResponse ) ? bidResponse : "";
+
+        final LoadAdCallback readinessTrackingCallback = new LoadAdCallback()
+        {
+            @Override
+            public void onAdLoad(final String id)
+            {
+                readyFullscreenAds.put( placementId, new ReadyAd( adMarkup ) );
+                loadAdCallback.onAdLoad( id );
+            }
+
+            @Override
+            public void onError(final String id, final VungleException exception)
+            {
+                readyFullscreenAds.remove( placementId );
+                loadAdCallback.onError( id, exception );
+            }
+        };
 
         if ( AppLovinSdkUtils.isValidString( bidResponse ) )
         {
-            Vungle.loadAd( placementId, bidResponse, adConfig, loadAdCallback );
+            Vungle.loadAd( placementId, bidResponse, adConfig, readinessTrackingCallback );
         }
         else
         {
-            Vungle.loadAd( placementId, adConfig, loadAdCallback );
+            Vungle.loadAd( placementId, adConfig, readinessTrackingCallback );
         }
     }
 
@@ -479,6 +518,9 @@ public class VungleMediationAdapter
         String bidResponse = parameters.getBidResponse();
         String placementId = parameters.getThirdPartyAdPlacementId();
 
+        // The cached ad is consumed once played
+        readyFullscreenAds.remove( placementId );
+
         if ( AppLovinSdkUtils.isValidString( bidResponse ) )
         {
             Vungle.playAd( placementId, bidResponse, adConfig, adListener );
@@ -919,4 +961,20 @@ public class VungleMediationAdapter
             // Deprecated callback
         }
     }
+
+    private static final class ReadyAd
+    {
+        private final String adMarkup;
+        private final long   confirmedAtMillis = SystemClock.elapsedRealtime();
+
+        private ReadyAd(final String adMarkup)
+        {
+            this.adMarkup = adMarkup;
+        }
+
+        private boolean isFresh(final String adMarkup)
+        {
+            return this.adMarkup.equals( adMarkup ) && SystemClock.elapsedRealtime() - confirmedAtMillis < READY_AD_TRUST_MILLIS;
+        }
+    }
 }